@@ -1,13 +1,12 @@
 package com.workflow.attachment.controller;
 
+import java.io.IOException;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,8 +23,12 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.workflow.attachment.dto.DeleteAttachmentsRequest;
 import com.workflow.attachment.dto.DownloadInfo;
+import com.workflow.attachment.dto.DownloadLinkResponse;
 import com.workflow.attachment.service.AttachmentService;
+import com.workflow.common.util.FileDownloadUtil;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -47,6 +51,22 @@ public class AttachmentController {
         return ResponseEntity.ok(attachmentService.uploadToTask(taskId, uploaderId, files));
     }
     
+    // 첨부파일 업로드 (스트리밍, 요청 본문 = 파일 1개)
+    // multipart 임시 파일을 거치지 않고 최종 위치에 바로 기록 (디스크 쓰기 1회)
+    // 파일명은 X-File-Name 헤더 (encodeURIComponent), Content-Type은 파일 MIME 타입
+    @PostMapping("/tasks/{taskId}/attachments/stream")
+    public ResponseEntity<?> uploadStream(@PathVariable("taskId") Long taskId,
+                                          @RequestHeader("X-File-Name") String encodedFilename,
+                                          HttpServletRequest req,
+                                          Authentication auth) throws IOException {
+
+        Long uploaderId = Long.valueOf(auth.getName());
+        String filename = URLDecoder.decode(encodedFilename, StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok(attachmentService.uploadStreamToTask(
+                taskId, uploaderId, filename, req.getContentType(), req.getContentLengthLong(), req.getInputStream()));
+    }
+    
     // 첨부파일 삭제 반영 (soft delete, 사유 없음)
     @PostMapping("/tasks/{taskId}/attachments/delete") // // 기존 DeleteMapping 대신 POST로 통합
     public ResponseEntity<?> delete(
@@ -63,40 +83,62 @@ public class AttachmentController {
     }
 
     // 첨부파일 다운로드
+    // Range(이어받기) → 206, ETag/Last-Modified 조건부 요청 → 304 지원
+    // 본문은 FileChannel 전송으로 필요한 구간만 응답에 바로 씀 (FileDownloadUtil)
     @GetMapping("/attachments/{attachmentId}/download")
-    public ResponseEntity<Resource> download(@PathVariable("attachmentId") Long attachmentId,
-                                             Authentication auth) throws Exception {
+    public void download(@PathVariable("attachmentId") Long attachmentId,
+                         Authentication auth,
+                         HttpServletRequest req,
+                         HttpServletResponse res) throws IOException {
 
         Long requesterId = Long.valueOf(auth.getName());
 
-        // 다운로드 정보 가져오기 (경로, 원본 이름, MIME 타입 등)
+        // 다운로드 정보 가져오기 (경로, 원본 이름, MIME 타입, ETag 등)
         DownloadInfo info = attachmentService.getDownloadInfo(attachmentId, requesterId);
 
-        Resource resource = new UrlResource(info.filePath().toUri());
-
-        if (!resource.exists() || !resource.isReadable()) {
-            // 파일이 존재하지 않으면 404 반환
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        // 원격 저장소: 서명 URL로 리다이렉트 (파일 바이트는 스토리지에서 바로 전송)
+        if (info.redirectUrl() != null) {
+            res.setHeader(HttpHeaders.CACHE_CONTROL, "no-store"); // 서명 URL은 만료되므로 캐시 금지
+            res.sendRedirect(info.redirectUrl());
+            return;
         }
-        
-        // 파일명 처리 메서드
-        ContentDisposition disposition = ContentDisposition
-        		.attachment()
-        		.filename(info.originalFilename(), StandardCharsets.UTF_8)
-        		.build();
-        
-        // Content-Type 처리
-        MediaType contentType = MediaTypeFactory
-        		.getMediaType(info.originalFilename())
-        		.orElse(MediaType.APPLICATION_OCTET_STREAM);
-
-        // ResponseEntity 반환: 파일 바디 + Content-Disposition + Content-Type
+
+        FileDownloadUtil.write(req, res,
+                info.filePath(),
+                info.originalFilename(),
+                contentType(info),
+                info.etag(),
+                info.lastModified());
+    }
+    
+    // 다운로드 링크 조회 (원격 저장소면 서명 URL, 로컬이면 url = null → /download 사용)
+    // 브라우저 XHR은 다른 origin으로의 리다이렉트에 CORS/Authorization 제약이 있어서 프론트는 이 URL로 직접 이동
+    @GetMapping("/attachments/{attachmentId}/download-url")
+    public ResponseEntity<?> downloadUrl(@PathVariable("attachmentId") Long attachmentId,
+                                         Authentication auth) {
+
+        Long requesterId = Long.valueOf(auth.getName());
+        DownloadInfo info = attachmentService.getDownloadInfo(attachmentId, requesterId);
+
         return ResponseEntity.ok()
-                .contentType(contentType)
-                // 브라우저 다운로드 진행률 표시, 일부 클라이언트 호환성이 좋아진다.
-                .contentLength(resource.contentLength())
-                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
-                .body(resource);
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(new DownloadLinkResponse(info.redirectUrl()));
+    }
+
+    // 다운로드용 Content-Type: 업로드 때 저장한 MIME 타입 우선
+    // 저장된 값이 없거나 형식이 잘못된 경우에만 파일 확장자로 추정 (그래도 모르면 octet-stream)
+    private String contentType(DownloadInfo info) {
+        if (info.contentType() != null && !info.contentType().isBlank()) {
+            try {
+                return MediaType.parseMediaType(info.contentType()).toString();
+            } catch (InvalidMediaTypeException ignored) {
+                // 아래 확장자 추정으로
+            }
+        }
+        return MediaTypeFactory
+                .getMediaType(info.originalFilename())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
     }
     
     
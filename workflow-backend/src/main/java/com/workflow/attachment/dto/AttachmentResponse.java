@@ -5,5 +5,5 @@ public record AttachmentResponse(
         String originalFilename,
         String contentType,
         Long sizeBytes,
-        String storagePath
+        String storagePath // 이전 방식(업무 폴더) 첨부만, blob 첨부는 null
 ) {}
\ No newline at end of file
@@ -6,5 +6,8 @@ import java.nio.file.Path;
 public record DownloadInfo(
         String originalFilename,  // 원본 파일명
         String contentType,       // MIME 타입
-        Path filePath             // 실제 서버 경로
+        Path filePath,            // 실제 서버 경로 (원격 저장소면 null)
+        String redirectUrl,       // 원격 저장소 서명 URL (로컬 저장소면 null)
+        String etag,              // 강한 ETag (첨부 메타데이터 기준, 따옴표 포함)
+        long lastModified         // Last-Modified (epoch ms, 첨부 등록 시각)
 ) {}
@@ -0,0 +1,6 @@
+package com.workflow.attachment.dto;
+
+// 첨부 다운로드 링크 응답
+public record DownloadLinkResponse(
+        String url  // 원격 저장소 서명 URL (로컬 저장소면 null → /download 엔드포인트 사용)
+) {}
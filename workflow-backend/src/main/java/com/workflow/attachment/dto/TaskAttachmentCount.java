@@ -0,0 +1,8 @@
+package com.workflow.attachment.dto;
+
+// 업무별 첨부 개수 집계 결과 DTO
+// - 목록 조회 시 여러 taskId의 첨부 개수를 GROUP BY 한 번으로 가져올 때 사용
+public record TaskAttachmentCount(
+        Long taskId, // 업무 ID
+        Long count   // 첨부 개수
+) {}
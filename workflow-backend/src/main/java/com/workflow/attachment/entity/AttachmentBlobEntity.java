@@ -0,0 +1,40 @@
+package com.workflow.attachment.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "attachment_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AttachmentBlobEntity {
+
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+    // 파일 내용 SHA-256 (hex), blob PK
+    // 같은 내용의 파일은 업무/업로더와 상관없이 blob 하나만 저장
+
+    @Column(name = "storage_path", nullable = false, length = 500)
+    private String storagePath;
+    // 실제 저장 경로
+    // 예: /uploads/blobs/ab/ab12...ef
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+    // 파일 크기(바이트)
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    // 이 blob을 가리키는 attachments row 수 (soft delete 포함)
+    // 첨부 row 물리 삭제 시 -1, 0이 되면 blob row + 파일 삭제
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+    // 최초 저장 시점
+}
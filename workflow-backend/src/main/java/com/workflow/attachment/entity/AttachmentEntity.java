@@ -52,6 +52,10 @@ public class AttachmentEntity {
     // 실제 저장 경로 또는 접근 URL
     // 예: /uploads/tasks/123/attachments/uuid_name.pdf
 
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+    // 파일 내용 SHA-256 (hex), 업로드 시 저장하면서 계산
+
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;  
     // soft delete 여부
@@ -1,7 +1,5 @@
 package com.workflow.attachment.job;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,7 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.workflow.attachment.entity.AttachmentEntity;
 import com.workflow.attachment.repository.AttachmentRepository;
-import com.workflow.common.file.FileStorageService;
+import com.workflow.attachment.service.AttachmentBlobService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class AttachmentCleanupJob {
 
     private final AttachmentRepository attachmentRepository; // DB 접근용
-    private final FileStorageService fileStorageService; // 파일 시스템 접근용
+    private final AttachmentBlobService attachmentBlobService; // 파일(blob 참조) 정리용
 
     @Value("${app.attachment-cleanup.enabled:true}")
     private boolean enabled; // 청소 기능 활성 여부
@@ -58,11 +56,9 @@ public class AttachmentCleanupJob {
 
             // storagePath: "/uploads/...." 형태
             try {
-                Path p = fileStorageService.resolveUploadPath(a.getStoragePath()); 
-                // 실제 파일 시스템 경로 변환
-
-                Files.deleteIfExists(p); 
-                // 파일 존재하면 삭제, 없으면 그냥 넘어감
+                attachmentBlobService.release(a); 
+                // blob 참조 -1, 마지막 참조일 때만 파일 삭제 (다른 업무가 같은 파일을 쓰면 유지)
+                // 이전 방식(업무 폴더) 파일은 바로 삭제, 없으면 그냥 넘어감
 
                 // (선택) 폴더 비었으면 정리하고 싶다면 여기에 디렉토리 정리 로직 추가 가능
 
@@ -2,6 +2,7 @@ package com.workflow.attachment.mapper;
 
 import com.workflow.attachment.dto.AttachmentResponse;
 import com.workflow.attachment.entity.AttachmentEntity;
+import com.workflow.common.file.FileStorageService;
 
 public class AttachmentMapper {
     public static AttachmentResponse toResponse(AttachmentEntity a) {
@@ -10,7 +11,13 @@ public class AttachmentMapper {
                 a.getOriginalFilename(),
                 a.getContentType(),
                 a.getSizeBytes(),
-                a.getStoragePath()
+                publicStoragePath(a.getStoragePath())
         );
     }
+
+    // blob 경로는 응답에 넣지 않음 (정적 경로로 열리지 않음, 다운로드는 첨부 id로만)
+    private static String publicStoragePath(String storagePath) {
+        if (storagePath == null || storagePath.startsWith(FileStorageService.BLOB_PATH_PREFIX)) return null;
+        return storagePath;
+    }
 }
\ No newline at end of file
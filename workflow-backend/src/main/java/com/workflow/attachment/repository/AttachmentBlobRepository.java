@@ -0,0 +1,62 @@
+package com.workflow.attachment.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.workflow.attachment.entity.AttachmentBlobEntity;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlobEntity, String> {
+
+    // blob 참조 등록 (없으면 ref_count=1로 생성, 있으면 +1)
+    // INSERT ... ON CONFLICT 한 문장이라 같은 파일 동시 업로드도 조회 없이 원자적으로 처리
+    // 트랜잭션 끝날 때까지 row 잠금 유지 → 같은 blob 정리(release)와 겹치지 않음
+    @Modifying
+    @Query(value = """
+        INSERT INTO attachment_blobs (sha256, storage_path, size_bytes, ref_count, created_at)
+        VALUES (:sha256, :storagePath, :sizeBytes, 1, :now)
+        ON CONFLICT (sha256) DO UPDATE
+           SET ref_count = attachment_blobs.ref_count + 1
+        """, nativeQuery = true)
+    int acquire(@Param("sha256") String sha256,
+                @Param("storagePath") String storagePath,
+                @Param("sizeBytes") long sizeBytes,
+                @Param("now") LocalDateTime now);
+
+    // blob 참조 해제 (ref_count -1)
+    @Modifying
+    @Query("""
+        update AttachmentBlobEntity b
+           set b.refCount = b.refCount - 1
+         where b.sha256 = :sha256
+    """)
+    int release(@Param("sha256") String sha256);
+
+    // 참조가 남지 않은 blob row 삭제
+    // - 반환값 1이면 마지막 참조였으므로 파일도 삭제
+    @Modifying
+    @Query("""
+        delete from AttachmentBlobEntity b
+         where b.sha256 = :sha256
+           and b.refCount <= 0
+    """)
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+
+    // 커밋 후 파일 삭제 직전: 참조 0인 자리표시 row로 sha256 선점
+    // - 반환값 1: 살아 있는 blob 없음 → 이 트랜잭션이 끝날 때까지 같은 파일 acquire는 대기하므로 파일 삭제해도 안전
+    // - 반환값 0: 그 사이 같은 내용이 다시 업로드됨 → 파일 유지
+    // 진행 중인 acquire가 있으면 그 트랜잭션이 끝날 때까지 기다린 뒤 판정
+    @Modifying
+    @Query(value = """
+        INSERT INTO attachment_blobs (sha256, storage_path, size_bytes, ref_count, created_at)
+        VALUES (:sha256, :storagePath, :sizeBytes, 0, :now)
+        ON CONFLICT (sha256) DO NOTHING
+        """, nativeQuery = true)
+    int claimForDelete(@Param("sha256") String sha256,
+                       @Param("storagePath") String storagePath,
+                       @Param("sizeBytes") long sizeBytes,
+                       @Param("now") LocalDateTime now);
+}
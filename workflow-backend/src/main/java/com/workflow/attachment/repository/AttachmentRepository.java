@@ -1,6 +1,7 @@
 package com.workflow.attachment.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.workflow.attachment.dto.TaskAttachmentCount;
 import com.workflow.attachment.entity.AttachmentEntity;
 
 public interface AttachmentRepository extends JpaRepository<AttachmentEntity, Long> {
@@ -58,6 +60,15 @@ public interface AttachmentRepository extends JpaRepository<AttachmentEntity, Lo
            and a.isDeleted = false
     """)
     long countActiveByTaskId(@Param("taskId") Long taskId);
+
+    // taskId 기준 활성 첨부 용량 합계 (스트리밍 업로드 시 남은 용량 계산용)
+    @Query("""
+        select coalesce(sum(a.sizeBytes), 0)
+          from AttachmentEntity a
+         where a.taskId = :taskId
+           and a.isDeleted = false
+    """)
+    long sumActiveSizeByTaskId(@Param("taskId") Long taskId);
     // - 업무 내 남아있는 첨부 파일 수 확인
     // - UI에서 파일 아이콘/카운트 표시 등에 사용
     
@@ -80,4 +91,24 @@ public interface AttachmentRepository extends JpaRepository<AttachmentEntity, Lo
     // taskId 기준 전체 첨부 파일 수 (삭제 여부 상관 없음)
     @Query("SELECT COUNT(a) FROM AttachmentEntity a WHERE a.taskId = :taskId")
     long countByTaskId(@Param("taskId") Long taskId);
+
+    // 여러 taskId 기준 활성 첨부 개수 한 번에 조회 (목록 페이지용)
+    @Query("""
+        select new com.workflow.attachment.dto.TaskAttachmentCount(a.taskId, count(a))
+          from AttachmentEntity a
+         where a.taskId in :taskIds
+           and a.isDeleted = false
+         group by a.taskId
+    """)
+    List<TaskAttachmentCount> countActiveGroupByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+    // - 첨부가 없는 taskId는 결과에 포함되지 않음 (0으로 처리)
+
+    // 여러 taskId 기준 전체 첨부 개수 한 번에 조회 (삭제 여부 상관 없음, 삭제 탭용)
+    @Query("""
+        select new com.workflow.attachment.dto.TaskAttachmentCount(a.taskId, count(a))
+          from AttachmentEntity a
+         where a.taskId in :taskIds
+         group by a.taskId
+    """)
+    List<TaskAttachmentCount> countAllGroupByTaskIds(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -0,0 +1,113 @@
+package com.workflow.attachment.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workflow.attachment.entity.AttachmentEntity;
+import com.workflow.attachment.repository.AttachmentBlobRepository;
+import com.workflow.common.file.FileStorageService;
+import com.workflow.common.file.StagedBlob;
+import com.workflow.common.file.StoredAttachment;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 첨부파일 blob 참조 관리 (내용 해시 → 파일 1개, attachments row들이 참조)
+// 같은 PDF/스크린샷을 여러 업무에 첨부해도 디스크에는 한 벌만 저장, 중복 업로드는 참조 수 +1
+// blob 파일은 마지막 참조 row가 물리 삭제되고 커밋된 뒤에만 삭제
+@Slf4j
+@Service
+public class AttachmentBlobService {
+
+    private final AttachmentBlobRepository blobRepository;
+    private final FileStorageService fileStorageService;
+
+    // 커밋 후 파일 삭제용 새 트랜잭션 (커밋이 끝난 원래 트랜잭션에는 참여할 수 없음)
+    private final TransactionTemplate deleteTransaction;
+
+    public AttachmentBlobService(AttachmentBlobRepository blobRepository,
+                                 FileStorageService fileStorageService,
+                                 PlatformTransactionManager transactionManager) {
+        this.blobRepository = blobRepository;
+        this.fileStorageService = fileStorageService;
+        this.deleteTransaction = new TransactionTemplate(transactionManager);
+        this.deleteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 임시 저장 파일을 blob으로 등록 후 최종 위치 확정
+    // 참조 등록(row 잠금)을 먼저 하고 파일을 옮기므로, 같은 blob을 정리 중인 작업과 순서가 꼬이지 않음
+    // (업로드 트랜잭션이 롤백되면 새로 만든 blob 파일은 참조 없이 남을 수 있음 → 내용은 같으므로 재업로드 시 재사용)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public StoredAttachment store(StagedBlob staged) {
+
+        try {
+            blobRepository.acquire(
+                    staged.sha256(),
+                    fileStorageService.blobStoragePath(staged.sha256()),
+                    staged.sizeBytes(),
+                    LocalDateTime.now());
+        } catch (RuntimeException e) {
+            fileStorageService.discardStaged(staged);
+            throw e;
+        }
+
+        return fileStorageService.promoteBlob(staged);
+    }
+
+    // 첨부 row 물리 삭제 전 호출: 파일 참조 해제
+    // - blob: 참조 수 -1, 마지막 참조면 blob row 삭제 + 커밋 후 파일 삭제
+    //   (롤백되면 row가 되살아나므로 파일은 커밋 전에 지우지 않음)
+    // - 이전 방식(업무 폴더) 파일: 바로 삭제, 실패하면 IOException (호출부에서 row 삭제 보류)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(AttachmentEntity a) throws IOException {
+
+        if (a.getContentSha256() == null || !fileStorageService.isBlobStoragePath(a.getStoragePath())) {
+            fileStorageService.deleteStoredFile(a.getStoragePath());
+            return;
+        }
+
+        blobRepository.release(a.getContentSha256());
+
+        if (blobRepository.deleteIfUnreferenced(a.getContentSha256()) > 0) {
+            String sha256 = a.getContentSha256();
+            String storagePath = a.getStoragePath();
+            long sizeBytes = a.getSizeBytes() == null ? 0 : a.getSizeBytes();
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteUnreferenced(sha256, storagePath, sizeBytes);
+                }
+            });
+        }
+    }
+
+    // 커밋 후 blob 파일 삭제
+    // 커밋과 삭제 사이에 같은 내용이 다시 업로드됐으면 (새 blob row) 파일 유지
+    // 커밋 후라 요청/배치를 실패시킬 수 없으므로 실패는 로그만 (참조 없는 파일만 남음)
+    private void deleteUnreferenced(String sha256, String storagePath, long sizeBytes) {
+        try {
+            deleteTransaction.executeWithoutResult(status -> {
+                if (blobRepository.claimForDelete(sha256, storagePath, sizeBytes, LocalDateTime.now()) == 0) {
+                    return;
+                }
+                try {
+                    fileStorageService.deleteStoredFile(storagePath);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("blob 파일 삭제 실패: {}", storagePath, e);
+                }
+                blobRepository.deleteIfUnreferenced(sha256);
+            });
+        } catch (RuntimeException e) {
+            log.warn("blob 파일 삭제 실패: {}", storagePath, e);
+        }
+    }
+}
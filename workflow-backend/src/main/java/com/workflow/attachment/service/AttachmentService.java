@@ -1,27 +1,36 @@
 package com.workflow.attachment.service;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.workflow.attachment.dto.AttachmentResponse;
 import com.workflow.attachment.dto.DownloadInfo;
+import com.workflow.attachment.dto.TaskAttachmentCount;
 import com.workflow.attachment.entity.AttachmentEntity;
 import com.workflow.attachment.mapper.AttachmentMapper; // 새로 추가
 import com.workflow.attachment.repository.AttachmentRepository;
 import com.workflow.common.exception.ApiException;
 import com.workflow.common.exception.ErrorCode;
 import com.workflow.common.file.FileStorageService;
+import com.workflow.common.file.StagedBlob;
 import com.workflow.common.file.StoredAttachment;
 import com.workflow.tasks.entity.TaskEntity;
 import com.workflow.tasks.repasitory.TaskRepository;
-import com.workflow.user.entity.UserEntity;
-import com.workflow.user.repository.UserRepository;
+import com.workflow.user.dto.UserSnapshot;
+import com.workflow.user.service.UserDirectory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,8 +40,10 @@ public class AttachmentService {
 
     private final AttachmentRepository attachmentRepository;
     private final FileStorageService fileStorageService;
-    private final UserRepository userRepository;
+    private final AttachmentBlobService attachmentBlobService;
+    private final UserDirectory userDirectory;
     private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate; // 스트리밍 업로드용 (본문 수신 구간은 트랜잭션 밖)
     
     // 첨부파일 제한 상수
     private static final int MAX_FILES = 10;
@@ -72,8 +83,7 @@ public class AttachmentService {
         }
         
         // 권한 체크
-        UserEntity loginUser = userRepository.findById(uploaderId)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+        UserSnapshot loginUser = userDirectory.requireUser(uploaderId);
 
         TaskEntity task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
@@ -85,37 +95,127 @@ public class AttachmentService {
         List<AttachmentResponse> out = new ArrayList<>();
 
         for (MultipartFile f : files) {
-            // 실제 저장 (task별 폴더)
+            // 실제 저장 (내용 해시 blob, 같은 파일이 이미 있으면 참조만 추가)
             StoredAttachment stored =
-                    fileStorageService.storeTaskAttachmentToTaskDir(f, "tasks", taskId);
+                    attachmentBlobService.store(fileStorageService.stageTaskAttachment(f));
 
-            // DB 엔티티 생성
-            AttachmentEntity a = new AttachmentEntity();
-            a.setTaskId(taskId);
-            a.setUploaderId(uploaderId);
-            a.setOriginalFilename(stored.originalFilename());
-            a.setStoredFilename(stored.storedFilename());
-            a.setContentType(stored.contentType());
-            a.setSizeBytes(stored.sizeBytes());
-            a.setStoragePath(stored.storagePath());
-            a.setDeleted(false);
-            a.setCreatedAt(LocalDateTime.now());
-
-            // DB 저장 후 응답 변환
-            AttachmentEntity saved = attachmentRepository.save(a);
-            out.add(AttachmentMapper.toResponse(saved)); // Mapper 사용
+            out.add(saveAttachment(taskId, uploaderId, stored));
         }
 
         return out;
     }
 
+    // 첨부 업로드 (스트리밍, 요청 본문 = 파일 1개)
+    // multipart 임시 파일 없이 한 번만 기록, 저장하면서 SHA-256 계산 (같은 내용이면 기존 blob 재사용)
+    // 요청 단위가 파일 1개라서 개수/총합 제한은 업무에 이미 있는 활성 첨부 기준으로 검사
+    // 트랜잭션을 나눠서 본문 수신(느린 클라이언트면 수십 초) 동안 DB 커넥션을 잡고 있지 않음
+    // 1) 짧은 트랜잭션: 권한 + 제한 확인 → 이번 파일 허용 크기
+    // 2) 트랜잭션 없이 임시 위치에 저장 (SHA-256 계산)
+    // 3) 짧은 트랜잭션: 업무 row 잠금 후 개수/총량 재확인 → blob 참조 등록 + row 저장
+    //    (1~2 사이에 같은 업무로 들어온 동시 업로드가 제한을 넘기지 않도록)
+    public AttachmentResponse uploadStreamToTask(Long taskId, Long uploaderId, String filename, String contentType,
+                                                 long contentLength, InputStream body) {
+
+        long maxBytes = transactionTemplate.execute(status ->
+                checkStreamUpload(taskId, uploaderId, filename, contentLength));
+
+        StagedBlob staged = fileStorageService.stageTaskAttachment(body, filename, contentType, maxBytes);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                taskRepository.lockById(taskId)
+                        .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
+                checkLimits(taskId, staged.sizeBytes());
+
+                return saveAttachment(taskId, uploaderId, attachmentBlobService.store(staged));
+            });
+        } catch (RuntimeException e) {
+            fileStorageService.discardStaged(staged); // blob으로 옮겨진 뒤면 이미 없음
+            throw e;
+        }
+    }
+
+    // 스트리밍 업로드 사전 확인 (본문 읽기 전), 이번 파일 허용 크기 반환
+    private long checkStreamUpload(Long taskId, Long uploaderId, String filename, long contentLength) {
+
+        if (taskId == null || taskId <= 0) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 taskId");
+        }
+
+        if (uploaderId == null || uploaderId <= 0) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+
+        if (filename == null || filename.isBlank()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "파일명이 없습니다.");
+        }
+
+        // 권한 체크 (본문 읽기 전에)
+        UserSnapshot loginUser = userDirectory.requireUser(uploaderId);
+
+        TaskEntity task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
+
+        if (!task.canEdit(loginUser)) {
+            throw new ApiException(ErrorCode.FORBIDDEN, "업로드 권한이 없습니다.");
+        }
+
+        if (attachmentRepository.countActiveByTaskId(taskId) >= MAX_FILES) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "첨부파일은 최대 " + MAX_FILES + "개까지 가능합니다.");
+        }
+
+        // 이번 파일 허용 크기: 개별 20MB와 업무 남은 총량 중 작은 값
+        long remaining = MAX_TOTAL_SIZE - attachmentRepository.sumActiveSizeByTaskId(taskId);
+        long maxBytes = Math.min(FileStorageService.MAX_ATTACHMENT_BYTES, remaining);
+
+        // Content-Length를 알면 본문 읽기 전에 거절
+        if (contentLength > FileStorageService.MAX_ATTACHMENT_BYTES) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "파일은 개별 20MB 이하만 가능합니다.");
+        }
+        if (maxBytes <= 0 || contentLength > maxBytes) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "첨부파일 총합은 50MB 이하만 가능합니다.");
+        }
+
+        return maxBytes;
+    }
+
+    // 업무 row 잠금 후 재확인: 이번 파일을 더해도 개수/총량 제한 안인지
+    private void checkLimits(Long taskId, long sizeBytes) {
+        if (attachmentRepository.countActiveByTaskId(taskId) >= MAX_FILES) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "첨부파일은 최대 " + MAX_FILES + "개까지 가능합니다.");
+        }
+        if (attachmentRepository.sumActiveSizeByTaskId(taskId) + sizeBytes > MAX_TOTAL_SIZE) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "첨부파일 총합은 50MB 이하만 가능합니다.");
+        }
+    }
+
+    // 저장된 파일 정보 → attachments row 저장 후 응답 변환
+    private AttachmentResponse saveAttachment(Long taskId, Long uploaderId, StoredAttachment stored) {
+
+        // DB 엔티티 생성
+        AttachmentEntity a = new AttachmentEntity();
+        a.setTaskId(taskId);
+        a.setUploaderId(uploaderId);
+        a.setOriginalFilename(stored.originalFilename());
+        a.setStoredFilename(stored.storedFilename());
+        a.setContentType(stored.contentType());
+        a.setSizeBytes(stored.sizeBytes());
+        a.setStoragePath(stored.storagePath());
+        a.setContentSha256(stored.sha256());
+        a.setDeleted(false);
+        a.setCreatedAt(LocalDateTime.now());
+
+        // DB 저장 후 응답 변환
+        AttachmentEntity saved = attachmentRepository.save(a);
+        return AttachmentMapper.toResponse(saved); // Mapper 사용
+    }
+
     // soft delete 처리
     @Transactional
     public void softDelete(Long taskId, List<Long> attachmentIds, Long requesterId) {
 
         // 요청자 정보 가져오기
-        UserEntity loginUser = userRepository.findById(requesterId)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+        UserSnapshot loginUser = userDirectory.requireUser(requesterId);
 
         for (Long attachmentId : attachmentIds) {
             // 첨부 파일 조회
@@ -181,8 +281,7 @@ public class AttachmentService {
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "첨부파일이 없습니다."));
         
         // 권한 체크
-        UserEntity loginUser = userRepository.findById(requesterId)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+        UserSnapshot loginUser = userDirectory.requireUser(requesterId);
 
         TaskEntity task = taskRepository.findById(a.getTaskId())
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
@@ -191,21 +290,64 @@ public class AttachmentService {
             throw new ApiException(ErrorCode.FORBIDDEN, "다운로드 권한이 없습니다.");
         }
 
-        Path filePath = fileStorageService.resolveUploadPath(a.getStoragePath());
+        // 원격 blob 저장소(S3 등)면 서명 URL로 리다이렉트, 로컬이면 디스크 경로에서 직접 전송
+        String redirectUrl = fileStorageService.presignedDownloadUrl(
+                a.getStoragePath(),
+                a.getOriginalFilename(),
+                a.getContentType() == null ? "application/octet-stream" : a.getContentType()
+        ).orElse(null);
+
+        Path filePath = null;
+        if (redirectUrl == null) {
+            filePath = fileStorageService.localDownloadPath(a.getStoragePath())
+                    .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "첨부파일이 없습니다."));
+        }
 
         return new DownloadInfo(
                 a.getOriginalFilename(),
                 a.getContentType(),
-                filePath
+                filePath,
+                redirectUrl,
+                etag(a),
+                a.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
         );
     }
 
+    // 첨부 파일 내용은 등록 후 바뀌지 않으므로 (id, 저장 파일명, 크기)로 강한 ETag 생성
+    // 파일을 다시 저장하면 저장 파일명이 바뀌어 ETag도 바뀜
+    private String etag(AttachmentEntity a) {
+        return "\"" + DigestUtils.md5Hex(a.getId() + ":" + a.getStoredFilename() + ":" + a.getSizeBytes()) + "\"";
+    }
+
     // Task별 남아있는 활성 첨부 파일 수 조회
     @Transactional(readOnly = true)
     public long countActiveByTask(Long taskId) {
         return attachmentRepository.countActiveByTaskId(taskId);
     }
 
+    // 목록 조회용: 여러 Task의 활성 첨부 개수를 한 번에 조회 (taskId → 개수)
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countActiveByTasks(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) return Map.of();
+        return toCountMap(attachmentRepository.countActiveGroupByTaskIds(taskIds));
+    }
+
+    // 목록 조회용: 여러 Task의 전체 첨부 개수(삭제 포함)를 한 번에 조회 (taskId → 개수)
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countByTasksIncludingDeleted(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) return Map.of();
+        return toCountMap(attachmentRepository.countAllGroupByTaskIds(taskIds));
+    }
+
+    // 집계 결과 → Map 변환 (첨부 없는 taskId는 Map에 없음 → 호출부에서 0 처리)
+    private Map<Long, Long> toCountMap(List<TaskAttachmentCount> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (TaskAttachmentCount row : rows) {
+            counts.put(row.taskId(), row.count());
+        }
+        return counts;
+    }
+
     // === 기존 Service 내부 private 메서드 toResponse 삭제됨 ===
     // Entity → DTO 변환은 AttachmentMapper로 통일됨
 }
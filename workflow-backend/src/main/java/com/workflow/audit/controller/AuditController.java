@@ -5,10 +5,12 @@ import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.workflow.audit.dto.AuditLogGroupedResponse;
 import com.workflow.audit.service.AuditLogService;
+import com.workflow.common.dto.CursorResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,4 +27,16 @@ public class AuditController {
 	    return auditLogService.getGroupedAuditLogs(taskId);
 	}
 
+	// 이력 조회 (커서 방식, 그룹 size개씩)
+	// cursor 파라미터가 있으면 이 메서드로 매핑 (?cursor= 빈 값이면 첫 페이지)
+	// 응답의 nextCursor를 다음 요청에 그대로 넘기면 됨
+	@GetMapping(value = "/{taskId}/audit-logs", params = "cursor")
+	public CursorResponse<AuditLogGroupedResponse> getTaskAuditLogPage(
+			@PathVariable("taskId") Long taskId,
+			@RequestParam(name = "cursor", required = false) String cursor, // 이전 응답의 nextCursor
+			@RequestParam(name = "size", required = false, defaultValue = "10") int size // 한 번에 가져올 그룹 수
+	) {
+		return auditLogService.getGroupedAuditLogPage(taskId, cursor, size);
+	}
+
 }
@@ -0,0 +1,42 @@
+package com.workflow.audit.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.workflow.audit.entity.AuditLogEntity;
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+// 이력 커서(keyset) 페이징 위치
+// 페이지 마지막 row의 (createdAt, id) → 다음 페이지는 이 위치보다 오래된 row부터 조회
+// 클라이언트에는 base64 문자열로만 전달 (내부 구조는 노출하지 않음)
+public record AuditLogCursor(
+        LocalDateTime createdAt,
+        Long id                  // 같은 시각 내 순서 고정용
+) {
+
+    private static final String SEP = "|";
+
+    public static AuditLogCursor of(AuditLogEntity last) {
+        return new AuditLogCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 값이면 null (첫 페이지)
+    public static AuditLogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) throw new IllegalArgumentException();
+            return new AuditLogCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.workflow.audit.dto;
+
+import java.time.LocalDateTime;
+
+import com.workflow.audit.enums.AuditActionType;
+import com.workflow.audit.enums.AuditValueFormat;
+
+// 감사 로그 1건 (audit_outbox payload / audit_logs 일괄 INSERT용)
+// 엔티티 대신 id 값만 보관 → 트랜잭션/영속성 컨텍스트 밖(백그라운드 저장)에서도 사용 가능
+public record AuditRecord(
+        Long taskId,
+        Long actorId,
+        String actorName,             // 변경 시점 수정자 이름 (조회 시 사용자 조인/조회 없이 표시)
+        AuditActionType actionType,
+        String fieldName,
+        String beforeValue,
+        String afterValue,
+        AuditValueFormat valueFormat, // null이면 값 그대로
+        String beforeText,            // 표시용 텍스트 (HTML 태그 제거)
+        String afterText,
+        boolean textReady,            // 표시용 텍스트 포함 여부 (이전 형식 outbox payload는 false)
+        String reason,
+        LocalDateTime createdAt   // 요청 시점 (같은 요청의 변경은 같은 시각 → 이력 그룹핑 기준)
+) {}
@@ -3,6 +3,7 @@ package com.workflow.audit.entity;
 import java.time.LocalDateTime;
 
 import com.workflow.audit.enums.AuditActionType;
+import com.workflow.audit.enums.AuditValueFormat;
 import com.workflow.tasks.entity.TaskEntity;
 import com.workflow.user.entity.UserEntity;
 
@@ -14,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,7 +27,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+    @Index(name = "idx_audit_task_created", columnList = "task_id, created_at DESC, id DESC")
+    // 업무별 이력 최신순 조회 + (createdAt, id) 커서 페이징용
+})
 @Getter
 @Setter
 @Builder	
@@ -45,6 +50,12 @@ public class AuditLogEntity {
     @JoinColumn(name = "actor_id", nullable = false)
     private UserEntity actor; // 변경을 수행한 사용자, lazy 로딩
 
+    @Column(name = "actor_id", insertable = false, updatable = false)
+    private Long actorId; // 수정자 ID (이력 조회 시 actor 로딩 없이 그룹핑용)
+
+    @Column(name = "actor_name", length = 100)
+    private String actorName; // 변경 시점 수정자 이름 (이전 row는 null → 조회 시 디렉터리에서 일괄 조회)
+
     @Enumerated(EnumType.STRING)
     @Column(name = "action_type", nullable = false, length = 30)
     private AuditActionType actionType;
@@ -58,6 +69,21 @@ public class AuditLogEntity {
     @Column(name="after_value", columnDefinition = "TEXT")
     private String afterValue; // 변경 후 값, 큰 텍스트 저장 가능
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "value_format", length = 20)
+    private AuditValueFormat valueFormat; // 값 저장 형식 (null: 값 그대로, DIFF: 내용 변경분, DESCRIPTION_REF: 요약에 내용 생략)
+
+    // 화면 표시용 텍스트 (저장 시 HTML 태그 제거해 둠 → 이력 조회 시 파싱 없음)
+    // DIFF row의 after_text는 직전 내용 텍스트 대비 변경분
+    @Column(name="before_text", columnDefinition = "TEXT")
+    private String beforeText;
+
+    @Column(name="after_text", columnDefinition = "TEXT")
+    private String afterText;
+
+    @Column(name="text_ready", nullable = false, columnDefinition = "boolean default false")
+    private boolean textReady; // before_text/after_text 저장 여부 (이전 row는 false → 조회 시 HTML 파싱)
+
     @Column(columnDefinition = "TEXT")
     private String reason; // 변경 사유, 필요 시 작성
 
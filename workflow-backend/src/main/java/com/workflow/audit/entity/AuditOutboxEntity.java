@@ -0,0 +1,41 @@
+package com.workflow.audit.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 감사 로그 outbox (업무 트랜잭션과 같이 커밋되는 대기 기록)
+// 요청 1건의 변경 이력 전체를 JSON 한 줄로 저장 → 변경 필드 수와 상관없이 INSERT 1회
+// AuditLogWriter가 audit_logs로 옮긴 뒤 삭제
+@Entity
+@Table(name = "audit_outbox")
+@Getter
+@NoArgsConstructor
+public class AuditOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // List<AuditRecord> JSON
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // 처리할 수 없는 row 표시 (JSON 깨짐, 값 제약 위반 등)
+    // 표시된 row는 주기 작업에서 건너뜀 → 한 건 때문에 뒤의 outbox가 막히지 않음, 원인 확인 후 수동 처리
+    @Column(name = "poisoned_at")
+    private LocalDateTime poisonedAt;
+
+    public AuditOutboxEntity(String payload) {
+        this.payload = payload;
+    }
+}
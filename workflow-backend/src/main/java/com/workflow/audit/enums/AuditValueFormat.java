@@ -0,0 +1,7 @@
+package com.workflow.audit.enums;
+
+// audit_logs.before_value / after_value 저장 형식 (null이면 값 그대로)
+public enum AuditValueFormat {
+	DIFF,            // 내용 변경: after_value = 직전 내용 기준 변경분, before_value 없음 (조회 시 복원)
+	DESCRIPTION_REF  // 생성/삭제/복구 요약: 내용 본문 생략, 조회 시 그 시점 내용으로 채움
+}
@@ -1,7 +1,9 @@
 package com.workflow.audit.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +13,50 @@ import com.workflow.audit.entity.AuditLogEntity;
 public interface AuditLogRepository extends JpaRepository<AuditLogEntity, Long>{
 	
 	// 특정 Task ID에 대한 AuditLog를 최신순(desc)으로 조회
-	@Query("SELECT a FROM AuditLogEntity a JOIN FETCH a.actor WHERE a.task.id = :taskId ORDER BY a.createdAt DESC")
-	List<AuditLogEntity> findByTaskIdWithActor(@Param("taskId") Long taskId);
+	// 수정자 이름/담당자 이름은 저장 시 같이 기록하므로 users 조인 없이 audit_logs만 조회
+	@Query("SELECT a FROM AuditLogEntity a WHERE a.task.id = :taskId ORDER BY a.createdAt DESC, a.id DESC")
+	List<AuditLogEntity> findByTaskId(@Param("taskId") Long taskId);
+
+	// 커서 페이징: 첫 페이지 (idx_audit_task_created 인덱스 순서 그대로 읽음)
+	@Query("SELECT a FROM AuditLogEntity a WHERE a.task.id = :taskId ORDER BY a.createdAt DESC, a.id DESC")
+	List<AuditLogEntity> findPage(@Param("taskId") Long taskId, Pageable pageable);
+
+	// 커서 페이징: (createdAt, id) 위치보다 오래된 row
+	@Query("""
+			SELECT a FROM AuditLogEntity a
+			WHERE a.task.id = :taskId
+			  AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+			ORDER BY a.createdAt DESC, a.id DESC
+			""")
+	List<AuditLogEntity> findPageBefore(@Param("taskId") Long taskId,
+										@Param("createdAt") LocalDateTime createdAt,
+										@Param("id") Long id,
+										Pageable pageable);
+
+	// 내용 변경 row만 (createdAt, id) 위치보다 오래된 것부터 최신순 (페이지 앞쪽 내용 복원 기준점 찾기용)
+	@Query("""
+			SELECT a FROM AuditLogEntity a
+			WHERE a.task.id = :taskId
+			  AND a.fieldName = 'description'
+			  AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+			ORDER BY a.createdAt DESC, a.id DESC
+			""")
+	List<AuditLogEntity> findDescriptionsBefore(@Param("taskId") Long taskId,
+												@Param("createdAt") LocalDateTime createdAt,
+												@Param("id") Long id,
+												Pageable pageable);
+
+	// (createdAt, id) 위치 이후 첫 내용 변경 row
+	@Query("""
+			SELECT a FROM AuditLogEntity a
+			WHERE a.task.id = :taskId
+			  AND a.fieldName = 'description'
+			  AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id))
+			ORDER BY a.createdAt ASC, a.id ASC
+			""")
+	List<AuditLogEntity> findDescriptionsAfter(@Param("taskId") Long taskId,
+											   @Param("createdAt") LocalDateTime createdAt,
+											   @Param("id") Long id,
+											   Pageable pageable);
 	
 }
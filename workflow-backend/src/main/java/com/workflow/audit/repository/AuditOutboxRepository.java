@@ -0,0 +1,10 @@
+package com.workflow.audit.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.workflow.audit.entity.AuditOutboxEntity;
+
+public interface AuditOutboxRepository extends JpaRepository<AuditOutboxEntity, Long> {
+
+	// 조회/삭제는 AuditLogWriter에서 JDBC로 (삭제한 row만 처리하는 claim 방식)
+}
@@ -1,29 +1,43 @@
 package com.workflow.audit.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.workflow.attachment.entity.AttachmentEntity;
+import com.workflow.audit.dto.AuditLogCursor;
 import com.workflow.audit.dto.AuditLogGroupedResponse;
+import com.workflow.audit.dto.AuditRecord;
 import com.workflow.audit.dto.FieldChange;
 import com.workflow.audit.entity.AuditLogEntity;
 import com.workflow.audit.enums.AuditActionType;
+import com.workflow.audit.enums.AuditValueFormat;
 import com.workflow.audit.repository.AuditLogRepository;
+import com.workflow.common.dto.CursorResponse;
 import com.workflow.tasks.dto.TaskUpdateRequest;
 import com.workflow.tasks.entity.TaskEntity;
 import com.workflow.tasks.enums.TaskPriority;
 import com.workflow.tasks.enums.TaskStatus;
 import com.workflow.tasks.enums.TaskVisibility;
+import com.workflow.tasks.repasitory.TaskRepository;
+import com.workflow.user.dto.UserSnapshot;
 import com.workflow.user.entity.UserEntity;
-import com.workflow.user.repository.UserRepository;
+import com.workflow.user.service.UserDirectory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,11 +45,18 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuditLogService {
 
+    private static final int PAGE_CHUNK = 100; // 커서 페이징 시 한 번에 읽는 row 수
+
     private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final UserDirectory userDirectory;
+    private final TaskRepository taskRepository;
 
+    // 내용 변경 이력: 이 횟수마다 한 번 전체 내용 저장, 그 사이는 변경분만 저장
+    @Value("${app.audit.description-snapshot-interval:20}")
+    private int descriptionSnapshotInterval;
 
-    // 이력 저장
+    // 이력 저장 (audit_outbox에 1건 기록, audit_logs 저장은 커밋 후 AuditLogWriter가 일괄 처리)
     public void saveTaskUpdateLogs(
             TaskEntity task,
             UserEntity loginUser,
@@ -52,75 +73,83 @@ public class AuditLogService {
             List<AttachmentEntity> addedAttachments,    // 새로 추가된 첨부파일
             List<AttachmentEntity> deletedAttachments   // 삭제된 첨부파일
     ) {
-        List<AuditLogEntity> logs = new ArrayList<>();
+        List<AuditRecord> logs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(); // 같은 요청의 변경은 같은 시각으로 기록
 
         String finalReason = (req != null ? req.reasonTrimmed() : reason);
 
         if (actionType == AuditActionType.TASK_DELETE) {
         	
-            // 삭제 시 제목 + 내용 기록
-            String summary = String.format("제목: '%s' / 내용: %s", oldTitle, oldDescription);
-            addLog(logs, task, loginUser, actionType, "deleted", summary, "삭제", finalReason);
+            // 삭제 시 제목 + 내용 기록 (제목만 저장, 내용은 그 시점 내용을 조회 시 채움)
+            String summary = String.format("제목: '%s'", oldTitle);
+            String summaryText = summaryText(oldTitle);
+            addLog(logs, now, task, loginUser, actionType, "deleted", summary, "삭제",
+                    AuditValueFormat.DESCRIPTION_REF, summaryText, "삭제", finalReason);
         } 
         
         else if (actionType == AuditActionType.TASK_CREATE) {
-            String summary = String.format("제목: '%s' / 내용: %s", task.getTitle(), task.getDescription());
-            addLog(logs, task, loginUser, actionType, "create", "생성", summary, "");
+            String summary = String.format("제목: '%s'", task.getTitle());
+            String summaryText = summaryText(task.getTitle());
+            addLog(logs, now, task, loginUser, actionType, "create", "생성", summary,
+                    AuditValueFormat.DESCRIPTION_REF, "생성", summaryText, "");
         }
         
         else if (actionType == AuditActionType.TASK_RESTORE) {
-            String summary = String.format("제목: '%s' / 내용: %s", task.getTitle(), task.getDescription());
-            addLog(logs, task, loginUser, actionType, "restore", "복구", summary, finalReason);
+            String summary = String.format("제목: '%s'", task.getTitle());
+            String summaryText = summaryText(task.getTitle());
+            addLog(logs, now, task, loginUser, actionType, "restore", "복구", summary,
+                    AuditValueFormat.DESCRIPTION_REF, "복구", summaryText, finalReason);
         }
         
         else {
         	
             // 제목
             if (!Objects.equals(oldTitle, task.getTitle())) {
-                addLog(logs, task, loginUser, actionType, "title", oldTitle, task.getTitle(), finalReason);
+                addLog(logs, now, task, loginUser, actionType, "title", oldTitle, task.getTitle(), finalReason);
             }
             
-            // 담당자
+            // 담당자 (값은 ID, 표시용 텍스트는 변경 시점 이름)
             Long newAssigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
             if (!Objects.equals(oldAssigneeId, newAssigneeId)) {
-                addLog(logs, task, loginUser, actionType, "assignee_id",
-                        String.valueOf(oldAssigneeId), String.valueOf(newAssigneeId), finalReason);
+                String newAssigneeName = task.getAssignee() != null ? task.getAssignee().getName() : "null";
+                addLog(logs, now, task, loginUser, actionType, "assignee_id",
+                        String.valueOf(oldAssigneeId), String.valueOf(newAssigneeId), null,
+                        assigneeName(oldAssigneeId), newAssigneeName, finalReason);
             }
             
             // 마감일
             if (!Objects.equals(oldDueDate, task.getDueDate())) {
-                addLog(logs, task, loginUser, actionType, "due_date",
+                addLog(logs, now, task, loginUser, actionType, "due_date",
                         String.valueOf(oldDueDate), String.valueOf(task.getDueDate()), finalReason);
             }
             
             // 내용
             if (!Objects.equals(oldDescription, task.getDescription())) {
-                addLog(logs, task, loginUser, actionType, "description",
-                        oldDescription, task.getDescription(), finalReason);
+                addDescriptionLog(logs, now, task, loginUser, actionType, oldDescription, finalReason);
             }
             
             // 공개 범위
             if (oldVisibility != task.getVisibility()) {
-                addLog(logs, task, loginUser, actionType, "visibility",
+                addLog(logs, now, task, loginUser, actionType, "visibility",
                         String.valueOf(oldVisibility), String.valueOf(task.getVisibility()), finalReason);
             }
             
             // 중요도
             if (oldPriority != task.getPriority()) {
-                addLog(logs, task, loginUser, actionType, "priority",
+                addLog(logs, now, task, loginUser, actionType, "priority",
                         String.valueOf(oldPriority), String.valueOf(task.getPriority()), finalReason);
             }
             
             // 업무 상태(진행 정도)
             if (oldStatus != task.getStatus()) {
-                addLog(logs, task, loginUser, actionType, "status",
+                addLog(logs, now, task, loginUser, actionType, "status",
                         String.valueOf(oldStatus), String.valueOf(task.getStatus()), finalReason);
             }
             
             // 첨부파일 추가 기록
             if (addedAttachments != null) {
                 for (AttachmentEntity a : addedAttachments) {
-                    addLog(logs, task, loginUser, actionType,
+                    addLog(logs, now, task, loginUser, actionType,
                             "attachment_add",
                             null,                     // 추가 전 없음
                             a.getOriginalFilename(),   // 추가 후 파일명
@@ -131,7 +160,7 @@ public class AuditLogService {
             // 첨부파일 삭제 기록
             if (deletedAttachments != null) {
                 for (AttachmentEntity a : deletedAttachments) {
-                    addLog(logs, task, loginUser, actionType,
+                    addLog(logs, now, task, loginUser, actionType,
                             "attachment_delete",
                             a.getOriginalFilename(),  // 삭제 전 이름
                             null,                     // 삭제 후 없음
@@ -140,13 +169,41 @@ public class AuditLogService {
             }
         }
 
-        if (!logs.isEmpty()) {
-            auditLogRepository.saveAll(logs);
+        auditLogWriter.write(logs);
+    }
+
+    // 내용 변경 기록
+    // 첫 변경과 descriptionSnapshotInterval번째 변경마다 전체 내용(복원 기준점), 그 사이는 직전 내용 대비 변경분만
+    // 변경분이 전체보다 크거나 너무 많이 바뀐 경우도 전체 내용
+    private void addDescriptionLog(List<AuditRecord> logs,
+                                   LocalDateTime now,
+                                   TaskEntity task,
+                                   UserEntity user,
+                                   AuditActionType actionType,
+                                   String oldDescription,
+                                   String reason) {
+
+        int revision = task.nextDescriptionRevision();
+        boolean snapshot = (revision - 1) % Math.max(descriptionSnapshotInterval, 1) == 0;
+
+        String delta = snapshot ? null : DescriptionDelta.diff(oldDescription, task.getDescription());
+
+        String oldText = plainText(oldDescription);
+        String newText = plainText(task.getDescription());
+
+        if (delta != null) {
+            // 표시용 텍스트도 직전 텍스트 대비 변경분
+            addLog(logs, now, task, user, actionType, "description", null, delta, AuditValueFormat.DIFF,
+                    null, DescriptionDelta.diffOrReplace(oldText, newText), reason);
+        } else {
+            addLog(logs, now, task, user, actionType, "description", oldDescription, task.getDescription(), null,
+                    oldText, newText, reason);
         }
     }
 
     // 이력 저장 빌더
-    private void addLog(List<AuditLogEntity> logs,
+    private void addLog(List<AuditRecord> logs,
+                        LocalDateTime now,
                         TaskEntity task,
                         UserEntity user,
                         AuditActionType actionType,
@@ -155,17 +212,56 @@ public class AuditLogService {
                         String newValue,
                         String reason) {
 
-        AuditLogEntity log = AuditLogEntity.builder()
-                .task(task)
-                .actor(user)
-                .actionType(actionType)
-                .fieldName(field)
-                .beforeValue(oldValue)
-                .afterValue(newValue)
-                .reason(reason)
-                .build();
-
-        logs.add(log);
+        addLog(logs, now, task, user, actionType, field, oldValue, newValue, null,
+                plainText(oldValue), plainText(newValue), reason);
+    }
+
+    private void addLog(List<AuditRecord> logs,
+                        LocalDateTime now,
+                        TaskEntity task,
+                        UserEntity user,
+                        AuditActionType actionType,
+                        String field,
+                        String oldValue,
+                        String newValue,
+                        AuditValueFormat valueFormat,
+                        String oldText,
+                        String newText,
+                        String reason) {
+
+        logs.add(new AuditRecord(
+                task.getId(),
+                user.getId(),
+                user.getName(),
+                actionType,
+                field,
+                oldValue,
+                newValue,
+                valueFormat,
+                oldText,
+                newText,
+                true,
+                reason,
+                now
+        ));
+    }
+
+    // 화면 표시용 텍스트 (HTML 태그 제거), 이력 저장 시 한 번만 계산
+    private static String plainText(String value) {
+        return value != null ? Jsoup.parse(value).text() : null;
+    }
+
+    // 이전 담당자 이름 (디렉터리 캐시), 없으면 ID 그대로
+    private String assigneeName(Long assigneeId) {
+        if (assigneeId == null) return "null";
+        return userDirectory.findUser(assigneeId)
+                .map(UserSnapshot::name)
+                .orElse(String.valueOf(assigneeId));
+    }
+
+    // 생성/삭제/복구 요약 표시용 텍스트 (제목만, 내용은 조회 시 withDescription으로 채움)
+    private static String summaryText(String title) {
+        return plainText(String.format("제목: '%s'", title));
     }
     
  // 이력 조회
@@ -175,26 +271,110 @@ public class AuditLogService {
  public List<AuditLogGroupedResponse> getGroupedAuditLogs(Long taskId) {
 
      // 특정 Task의 Audit Log를 최신 순으로 조회
-     List<AuditLogEntity> logs = auditLogRepository.findByTaskIdWithActor(taskId);
+     List<AuditLogEntity> logs = auditLogRepository.findByTaskId(taskId);
 
      // 이력이 없는 경우, 빈 리스트 반환
      if (logs == null || logs.isEmpty()) {
          return List.of();
      }
 
+     // 표시용 텍스트 (변경분으로 저장된 내용은 복원)
+     Map<Long, AuditValues> texts = resolveTexts(logs, List.of(), () -> currentDescriptionText(taskId));
+
+     List<AuditLogGroupedResponse> result = group(logs, texts);
+
+     // 최신 3개는 isRecent = true, 나머지는 false
+     for (int i = 0; i < result.size(); i++) {
+         result.get(i).setRecent(i < 3);
+     }
+
+     return result;
+ }
+
+ // 이력 조회 (커서 방식)
+ // (createdAt, id) 최신순으로 그룹 size개씩 반환, 한 그룹(같은 사용자 + 같은 초)은 페이지에 나뉘지 않음
+ // 첫 페이지의 최신 3개만 isRecent=true
+ public CursorResponse<AuditLogGroupedResponse> getGroupedAuditLogPage(Long taskId, String cursor, int size) {
+
+     int pageSize = Math.min(Math.max(size, 1), 50);
+     AuditLogCursor position = AuditLogCursor.decode(cursor);
+     boolean firstPage = position == null;
+
+     // 그룹당 row 수를 미리 알 수 없으므로 조금씩 읽다가 (pageSize + 1)번째 그룹이 시작되면 멈춤
+     List<AuditLogEntity> logs = new ArrayList<>();
+     String lastKey = null;
+     int groups = 0;
+     boolean hasNext = false;
+
+     while (!hasNext) {
+         PageRequest chunkPage = PageRequest.of(0, PAGE_CHUNK);
+         List<AuditLogEntity> chunk = position == null
+                 ? auditLogRepository.findPage(taskId, chunkPage)
+                 : auditLogRepository.findPageBefore(taskId, position.createdAt(), position.id(), chunkPage);
+
+         for (AuditLogEntity log : chunk) {
+             String key = groupKey(log);
+             if (!key.equals(lastKey)) {
+                 if (groups == pageSize) {
+                     hasNext = true;
+                     break;
+                 }
+                 groups++;
+                 lastKey = key;
+             }
+             logs.add(log);
+         }
+
+         if (chunk.size() < PAGE_CHUNK) break; // 마지막 row까지 읽음
+         position = AuditLogCursor.of(chunk.get(chunk.size() - 1));
+     }
+
+     if (logs.isEmpty()) {
+         return CursorResponse.of(List.of(), pageSize, null);
+     }
+
+     // 페이지 앞쪽(더 오래된 row)에 있는 내용 복원 기준점까지 같이 읽어 표시용 텍스트 계산
+     AuditLogEntity newest = logs.get(0);
+     Map<Long, AuditValues> texts = resolveTexts(logs, descriptionContext(taskId, logs),
+             () -> descriptionTextAfter(taskId, newest));
+
+     List<AuditLogGroupedResponse> content = group(logs, texts);
+     for (int i = 0; i < content.size(); i++) {
+         content.get(i).setRecent(firstPage && i < 3);
+     }
+
+     String nextCursor = hasNext ? AuditLogCursor.of(logs.get(logs.size() - 1)).encode() : null;
+     return CursorResponse.of(content, pageSize, nextCursor);
+ }
+
+ // 그룹 키: 사용자ID + 초 단위 생성 시각
+ private static String groupKey(AuditLogEntity log) {
+     return log.getActorId() + "_" + (log.getCreatedAt() != null ? log.getCreatedAt().truncatedTo(ChronoUnit.SECONDS) : null);
+ }
+
+ // 최신순 row → 사용자 + 초 단위 시각으로 묶은 응답
+ private List<AuditLogGroupedResponse> group(List<AuditLogEntity> logs, Map<Long, AuditValues> texts) {
+
+     // 이름 없이 저장된 이전 row의 수정자/담당자 (한 번에 조회)
+     Map<Long, UserSnapshot> legacyUsers = resolveLegacyUsers(logs, texts);
+
      // actorId + 초 단위 timestamp로 그룹핑
      Map<String, AuditLogGroupedResponse> grouped = new LinkedHashMap<>();
 
      for (AuditLogEntity log : logs) {
          // 안전 체크: actor나 생성 시각이 없으면 건너뛰기
-         if (log.getActor() == null || log.getCreatedAt() == null) continue;
+         if (log.getActorId() == null || log.getCreatedAt() == null) continue;
 
          // 키 생성: 사용자ID + 초 단위 생성 시각
-         String key = log.getActor().getId() + "_" + log.getCreatedAt().truncatedTo(ChronoUnit.SECONDS);
+         String key = groupKey(log);
+
+         // 수정자 이름 (저장된 이름, 이전 row는 일괄 조회한 이름)
+         String actorName = log.getActorName() != null ? log.getActorName()
+                 : userName(legacyUsers, log.getActorId(), "");
 
          // 그룹에 없으면 새 DTO 생성 (Builder 사용)
          grouped.computeIfAbsent(key, k -> AuditLogGroupedResponse.builder()
-                 .actorName(log.getActor().getName())   // 수정자 이름
+                 .actorName(actorName)                  // 수정자 이름
                  .modifiedAt(log.getCreatedAt())        // 수정 시각
                  .changes(new ArrayList<>())            // 변경된 필드 리스트
                  .reason(log.getReason())               // 수정/삭제 사유
@@ -204,26 +384,15 @@ public class AuditLogService {
          AuditLogGroupedResponse dto = grouped.get(key);
 
          // 변경 필드 정보 기록
-         String cleanBefore = log.getBeforeValue() != null ? Jsoup.parse(log.getBeforeValue()).text() : null;
-         String cleanAfter = log.getAfterValue() != null ? Jsoup.parse(log.getAfterValue()).text() : null;
+         AuditValues values = texts.get(log.getId());
+         String cleanBefore = values.before();
+         String cleanAfter = values.after();
 
-         // 담당자 ID → 이름으로 변환
-         if ("assignee_id".equals(log.getFieldName())) {
-        	    try {
-        	        if (cleanBefore != null && !cleanBefore.isEmpty() && !"null".equals(cleanBefore)) {
-        	            cleanBefore = userRepository.findById(Long.parseLong(cleanBefore))
-        	                    .map(UserEntity::getName)
-        	                    .orElse(cleanBefore);
-        	        }
-        	        if (cleanAfter != null && !cleanAfter.isEmpty() && !"null".equals(cleanAfter)) {
-        	            cleanAfter = userRepository.findById(Long.parseLong(cleanAfter))
-        	                    .map(UserEntity::getName)
-        	                    .orElse(cleanAfter);
-        	        }
-        	    } catch (NumberFormatException e) {
-        	        // 숫자가 아니면 그냥 기존 값 그대로 사용
-        	    }
-        	}
+         // 담당자 ID → 이름으로 변환 (이전 row만, 새 row는 저장 시 이름으로 기록됨)
+         if ("assignee_id".equals(log.getFieldName()) && log.getActorName() == null) {
+             cleanBefore = userName(legacyUsers, parseUserId(cleanBefore), cleanBefore);
+             cleanAfter = userName(legacyUsers, parseUserId(cleanAfter), cleanAfter);
+         }
 
          FieldChange change = FieldChange.builder()
                  .field(log.getFieldName())       // 필드명
@@ -235,13 +404,161 @@ public class AuditLogService {
      }
 
      // Map -> List로 변환
-     List<AuditLogGroupedResponse> result = new ArrayList<>(grouped.values());
+     return new ArrayList<>(grouped.values());
+ }
 
-     // 최신 3개는 isRecent = true, 나머지는 false
-     for (int i = 0; i < result.size(); i++) {
-         result.get(i).setRecent(i < 3);
+ // 페이지의 가장 오래된 내용 변경이 DIFF이거나 요약(내용 생략)이 있으면
+ // 페이지 앞쪽 내용 변경 row를 가장 가까운 전체 내용 row까지 조회 (전체 내용은 최대 descriptionSnapshotInterval번마다 있음)
+ private List<AuditLogEntity> descriptionContext(Long taskId, List<AuditLogEntity> logs) {
+
+     AuditLogEntity oldestDescription = null;
+     boolean hasSummary = false;
+     for (AuditLogEntity log : logs) {
+         if ("description".equals(log.getFieldName())) oldestDescription = log;
+         if (log.getValueFormat() == AuditValueFormat.DESCRIPTION_REF) hasSummary = true;
      }
 
-     return result;
+     boolean needed = hasSummary
+             || (oldestDescription != null && oldestDescription.getValueFormat() == AuditValueFormat.DIFF);
+     if (!needed) return List.of();
+
+     AuditLogEntity oldest = logs.get(logs.size() - 1);
+     List<AuditLogEntity> before = auditLogRepository.findDescriptionsBefore(taskId, oldest.getCreatedAt(), oldest.getId(),
+             PageRequest.of(0, Math.max(descriptionSnapshotInterval, 1) + 1));
+
+     List<AuditLogEntity> context = new ArrayList<>();
+     for (AuditLogEntity log : before) {
+         context.add(log);
+         if (log.getValueFormat() != AuditValueFormat.DIFF) break; // 기준점
+     }
+     return context;
+ }
+
+ // 페이지 이후(더 최신) 첫 내용 변경의 변경 전 텍스트, 없으면 현재 업무 내용
+ private String descriptionTextAfter(Long taskId, AuditLogEntity newest) {
+     List<AuditLogEntity> next = auditLogRepository.findDescriptionsAfter(taskId, newest.getCreatedAt(), newest.getId(),
+             PageRequest.of(0, 1));
+     return next.isEmpty() ? currentDescriptionText(taskId) : storedText(next.get(0)).before();
+ }
+
+ private String currentDescriptionText(Long taskId) {
+     return plainText(taskRepository.findDescriptionById(taskId).orElse(null));
+ }
+
+ // 표시용 텍스트 계산 (오래된 순으로 이어 가며 각 시점의 내용 계산)
+ // - text_ready row: 저장된 텍스트 그대로 (HTML 파싱 없음), DIFF row는 직전 텍스트 + 변경분
+ // - 이전 row: HTML 파싱 (내용 DIFF는 직전 HTML + 변경분을 복원 후 파싱)
+ // - 요약(DESCRIPTION_REF, 제목만 저장): 그 시점 내용 = 직전 내용 변경 후 값,
+ //   앞에 내용 변경이 없으면 다음 내용 변경의 변경 전 값, 그것도 없으면 laterDescription
+ // context: logs보다 오래된 내용 변경 row (페이지 조회 시 복원 기준점), 결과에는 포함되지만 응답에는 쓰지 않음
+ private Map<Long, AuditValues> resolveTexts(List<AuditLogEntity> logs,
+                                             List<AuditLogEntity> context,
+                                             Supplier<String> laterDescription) {
+
+     Map<Long, AuditValues> texts = new HashMap<>();
+
+     List<AuditLogEntity> ascending = new ArrayList<>(context);
+     ascending.addAll(logs);
+     ascending.sort(Comparator.comparing(AuditLogEntity::getCreatedAt).thenComparing(AuditLogEntity::getId));
+
+     String html = null;                                // 그 시점 내용 HTML (이전 row 복원용, 모르면 null)
+     String text = null;                                // 그 시점 내용 텍스트 (모르면 null)
+     List<AuditLogEntity> waiting = new ArrayList<>();  // 그 시점 내용을 아직 모르는 요약
+
+     for (AuditLogEntity log : ascending) {
+
+         if (!"description".equals(log.getFieldName())) {
+             if (log.getValueFormat() == AuditValueFormat.DESCRIPTION_REF) {
+                 if (text != null) texts.put(log.getId(), withDescription(log, text));
+                 else waiting.add(log);
+             } else {
+                 texts.put(log.getId(), storedText(log));
+             }
+             continue;
+         }
+
+         String beforeText;
+         String afterText;
+
+         if (log.getValueFormat() == AuditValueFormat.DIFF) {
+             beforeText = text;
+             if (log.isTextReady()) {
+                 afterText = DescriptionDelta.apply(text, log.getAfterText());
+                 html = null; // 이후 row도 텍스트가 있으므로 HTML은 더 필요 없음
+             } else {
+                 html = DescriptionDelta.apply(html, log.getAfterValue());
+                 afterText = plainText(html);
+             }
+         } else {
+             AuditValues stored = storedText(log);
+             beforeText = stored.before();
+             afterText = stored.after();
+             html = log.getAfterValue();
+         }
+
+         for (AuditLogEntity w : waiting) texts.put(w.getId(), withDescription(w, beforeText));
+         waiting.clear();
+
+         texts.put(log.getId(), new AuditValues(beforeText, afterText)); // 복원 실패 시 null
+         text = afterText;
+     }
+
+     if (!waiting.isEmpty()) {
+         String latest = laterDescription.get();
+         for (AuditLogEntity w : waiting) texts.put(w.getId(), withDescription(w, latest));
+     }
+
+     return texts;
  }
-}
\ No newline at end of file
+
+ // 이름 없이 저장된 이전 row의 수정자 ID, 담당자 ID를 모아 디렉터리에서 한 번에 조회
+ private Map<Long, UserSnapshot> resolveLegacyUsers(List<AuditLogEntity> logs, Map<Long, AuditValues> texts) {
+
+     Set<Long> ids = new HashSet<>();
+     for (AuditLogEntity log : logs) {
+         if (log.getActorName() != null) continue;
+         ids.add(log.getActorId());
+         if ("assignee_id".equals(log.getFieldName())) {
+             AuditValues values = texts.get(log.getId());
+             ids.add(parseUserId(values.before()));
+             ids.add(parseUserId(values.after()));
+         }
+     }
+     ids.remove(null);
+
+     return ids.isEmpty() ? Map.of() : userDirectory.findUsers(ids);
+ }
+
+ private static String userName(Map<Long, UserSnapshot> users, Long userId, String fallback) {
+     UserSnapshot user = userId != null ? users.get(userId) : null;
+     return user != null ? user.name() : fallback;
+ }
+
+ // 숫자가 아니면 (null, "null" 등) null
+ private static Long parseUserId(String value) {
+     if (value == null || value.isEmpty()) return null;
+     try {
+         return Long.parseLong(value);
+     } catch (NumberFormatException e) {
+         return null;
+     }
+ }
+
+ // 저장된 표시용 텍스트 (text_ready 이전 row는 HTML 파싱)
+ private AuditValues storedText(AuditLogEntity log) {
+     if (log.isTextReady()) return new AuditValues(log.getBeforeText(), log.getAfterText());
+     return new AuditValues(plainText(log.getBeforeValue()), plainText(log.getAfterValue()));
+ }
+
+ // 제목만 저장된 요약에 내용 붙이기 (삭제는 변경 전 값, 생성/복구는 변경 후 값에 요약이 있음)
+ private AuditValues withDescription(AuditLogEntity log, String descriptionText) {
+     AuditValues stored = storedText(log);
+     String body = " / 내용: " + (descriptionText != null ? descriptionText : "");
+     if (log.getActionType() == AuditActionType.TASK_DELETE) {
+         return new AuditValues(stored.before() + body, stored.after());
+     }
+     return new AuditValues(stored.before(), stored.after() + body);
+ }
+
+ private record AuditValues(String before, String after) {}
+}
@@ -0,0 +1,276 @@
+package com.workflow.audit.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workflow.audit.dto.AuditRecord;
+import com.workflow.audit.entity.AuditOutboxEntity;
+import com.workflow.audit.repository.AuditOutboxRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 감사 로그 비동기 일괄 저장
+// 1) 업무 트랜잭션 안: 요청 1건의 이력 전체를 audit_outbox에 JSON 한 줄로 INSERT (필드 수와 무관하게 1회)
+// 2) 커밋 후: 메모리 대기열(상한 있음)에 넘기고, 전용 스레드가 모아서 audit_logs에 JDBC batch INSERT
+// 3) 대기열이 가득 찼거나 커밋 직후 서버가 내려간 경우: 주기 작업이 남은 outbox를 다시 처리 (유실 없음)
+// outbox row를 DELETE ... RETURNING으로 먼저 가져간(claim) 쪽만 INSERT → 같은 이력이 두 번 저장되지 않음
+// 처리할 수 없는 row(JSON 깨짐, 값 제약 위반)는 poisoned_at을 찍어 격리 → sweep이 같은 row에서 멈추지 않음
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_logs (task_id, actor_id, actor_name, action_type, field_name, before_value, after_value, value_format,
+                                before_text, after_text, text_ready, reason, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    // 재시도용: 그 사이 물리 삭제된 업무면 task_id null (FK ON DELETE SET NULL과 같은 결과)
+    private static final String INSERT_SAFE_SQL = """
+        INSERT INTO audit_logs (task_id, actor_id, actor_name, action_type, field_name, before_value, after_value, value_format,
+                                before_text, after_text, text_ready, reason, created_at)
+        VALUES ((SELECT t.id FROM tasks t WHERE t.id = ?), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final TypeReference<List<AuditRecord>> RECORDS = new TypeReference<>() {};
+
+    private final AuditOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<OutboxBatch> queue;
+    private final int batchSize;
+    private final long sweepAgeSeconds;
+
+    private volatile boolean running = true;
+    private Thread drainer;
+
+    public AuditLogWriter(AuditOutboxRepository outboxRepository,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${app.audit-writer.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.audit-writer.batch-size:500}") int batchSize,
+                          @Value("${app.audit-writer.sweep-age-seconds:10}") long sweepAgeSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.sweepAgeSeconds = sweepAgeSeconds;
+    }
+
+    // 이력 기록 (호출 트랜잭션에 outbox INSERT 1회만 추가)
+    public void write(List<AuditRecord> records) {
+
+        if (records == null || records.isEmpty()) return;
+
+        AuditOutboxEntity outbox = outboxRepository.save(new AuditOutboxEntity(toJson(records)));
+        OutboxBatch batch = new OutboxBatch(outbox.getId(), records);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(batch);
+                }
+            });
+            return;
+        }
+
+        enqueue(batch);
+    }
+
+    // 대기열이 가득 차면 넘기지 않음 (outbox에 남아 있으므로 sweep에서 처리)
+    private void enqueue(OutboxBatch batch) {
+        if (!queue.offer(batch)) {
+            log.debug("감사 로그 대기열 가득 참, outbox id={}는 주기 작업에서 처리", batch.outboxId());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        drainer = new Thread(this::drainLoop, "audit-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false; // 대기열에 남은 것은 outbox에 있으므로 다음 기동 시 sweep으로 처리
+        drainer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    // 대기열에서 최대 batchSize 묶음씩 꺼내 한 트랜잭션으로 저장
+    private void drainLoop() {
+        List<OutboxBatch> batches = new ArrayList<>();
+
+        while (running) {
+            try {
+                OutboxBatch first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batches.add(first);
+                queue.drainTo(batches, batchSize - 1);
+                flush(batches);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("감사 로그 저장 실패, 주기 작업에서 재시도", e); // outbox에 남아 있음
+            } finally {
+                batches.clear();
+            }
+        }
+    }
+
+    // 오래 남아 있는 outbox 처리 (대기열 초과분, 재기동 전 미처리분, 저장 실패분)
+    // 방금 커밋된 row는 드레이너 몫이므로 sweepAgeSeconds 지난 것만, 격리된 row는 제외
+    // JSON 변환은 row마다 따로 (깨진 row 하나가 조회 전체를 실패시키지 않도록)
+    @Scheduled(fixedDelayString = "${app.audit-writer.sweep-delay-ms:5000}")
+    public void sweep() {
+
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(sweepAgeSeconds);
+
+        List<OutboxRow> rows = jdbcTemplate.query(
+                "SELECT id, payload FROM audit_outbox WHERE poisoned_at IS NULL AND created_at < ? ORDER BY id LIMIT ?",
+                (rs, i) -> new OutboxRow(rs.getLong("id"), rs.getString("payload")),
+                cutoff, batchSize);
+
+        List<OutboxBatch> stale = new ArrayList<>();
+        for (OutboxRow row : rows) {
+            try {
+                stale.add(new OutboxBatch(row.id(), fromJson(row.payload())));
+            } catch (IllegalStateException e) {
+                quarantine(row.id(), e);
+            }
+        }
+
+        if (!stale.isEmpty()) flush(stale);
+    }
+
+    // outbox claim + audit_logs batch INSERT (한 트랜잭션)
+    // 실패하면 outbox 단위로 나눠 재시도 (한 건 때문에 나머지가 막히지 않도록)
+    // 단건으로도 값 때문에 실패하면(제약 위반, 필수 값 누락) 다시 해도 같으므로 격리, 그 외(DB 연결 등)는 다음 주기에 재시도
+    private void flush(List<OutboxBatch> batches) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertClaimed(batches, INSERT_SQL));
+        } catch (RuntimeException e) {
+            for (OutboxBatch batch : batches) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertClaimed(List.of(batch), INSERT_SAFE_SQL));
+                } catch (DataIntegrityViolationException ex) {
+                    quarantine(batch.outboxId(), ex);
+                } catch (DataAccessException | TransactionException ex) {
+                    log.error("감사 로그 저장 실패 (outbox id={}), 주기 작업에서 재시도", batch.outboxId(), ex);
+                } catch (RuntimeException ex) {
+                    quarantine(batch.outboxId(), ex); // 레코드 값 오류 (예: actionType 없음)
+                }
+            }
+        }
+    }
+
+    // 처리할 수 없는 outbox row 격리 (삭제하지 않고 표시만, payload는 원인 확인용으로 보존)
+    private void quarantine(Long outboxId, Exception cause) {
+        log.error("감사 로그 outbox 격리 (id={}), 수동 확인 필요", outboxId, cause);
+        try {
+            jdbcTemplate.update("UPDATE audit_outbox SET poisoned_at = ? WHERE id = ?", LocalDateTime.now(), outboxId);
+        } catch (DataAccessException e) {
+            log.error("감사 로그 outbox 격리 표시 실패 (id={})", outboxId, e);
+        }
+    }
+
+    private void insertClaimed(List<OutboxBatch> batches, String sql) {
+
+        Set<Long> claimed = claim(batches.stream().map(OutboxBatch::outboxId).toArray(Long[]::new));
+
+        List<AuditRecord> records = new ArrayList<>();
+        for (OutboxBatch b : batches) {
+            if (claimed.contains(b.outboxId())) records.addAll(b.records());
+        }
+
+        if (records.isEmpty()) return;
+
+        // reWriteBatchedInserts=true(PostgreSQL 드라이버)면 multi-row INSERT로 전송
+        jdbcTemplate.batchUpdate(sql, records, batchSize, (ps, r) -> {
+            setLong(ps, 1, r.taskId());
+            setLong(ps, 2, r.actorId());
+            ps.setString(3, r.actorName());
+            ps.setString(4, r.actionType().name());
+            ps.setString(5, r.fieldName());
+            ps.setString(6, r.beforeValue());
+            ps.setString(7, r.afterValue());
+            ps.setString(8, r.valueFormat() != null ? r.valueFormat().name() : null);
+            ps.setString(9, r.beforeText());
+            ps.setString(10, r.afterText());
+            ps.setBoolean(11, r.textReady());
+            ps.setString(12, r.reason());
+            ps.setObject(13, r.createdAt()); // LocalDateTime 그대로 (시간대 변환 없음)
+        });
+    }
+
+    // outbox row 삭제 후 실제로 삭제된 id만 반환 (다른 쪽이 먼저 가져간 row는 제외)
+    private Set<Long> claim(Long[] ids) {
+        return new HashSet<>(jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM audit_outbox WHERE id = ANY(?) RETURNING id");
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            return ps;
+        }, (rs, i) -> rs.getLong(1)));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, value);
+    }
+
+    private String toJson(List<AuditRecord> records) {
+        try {
+            return objectMapper.writeValueAsString(records);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("감사 로그 직렬화 실패", e);
+        }
+    }
+
+    private List<AuditRecord> fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, RECORDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("감사 로그 역직렬화 실패", e);
+        }
+    }
+
+    // outbox row 1개 = 요청 1건의 이력 묶음
+    private record OutboxBatch(Long outboxId, List<AuditRecord> records) {}
+
+    // sweep 조회 결과 (JSON 변환 전)
+    private record OutboxRow(Long id, String payload) {}
+}
@@ -0,0 +1,244 @@
+package com.workflow.audit.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 업무 내용(HTML, 표시용 텍스트) 변경분 인코딩 / 복원
+// 태그, 단어, 공백, 기호 단위로 잘라 Myers diff → 글자 수 기준 복사/건너뛰기/삽입 명령으로 저장
+// 형식: d1:{이전 내용 길이}:  뒤에 =n; (n글자 유지)  -n; (n글자 삭제)  +n:{n글자} (삽입)
+// 길이가 맞지 않는 내용에 적용하면 null (체인이 깨진 경우 잘못된 내용을 보여주지 않도록)
+final class DescriptionDelta {
+
+    private static final String PREFIX = "d1:";
+    private static final int MAX_EDIT_DISTANCE = 1000; // 이보다 많이 바뀌면 diff 대신 전체 저장
+
+    private DescriptionDelta() {}
+
+    // before → after 변경분, 전체 저장보다 작지 않거나 너무 많이 바뀌었으면 null
+    static String diff(String before, String after) {
+        String delta = encode(before, after);
+        return delta != null && delta.length() < after.length() ? delta : null;
+    }
+
+    // 항상 변경분 형식으로 (diff가 안 되거나 더 크면 전체 삭제 + 전체 삽입)
+    static String diffOrReplace(String before, String after) {
+        String base = before != null ? before : "";
+        String target = after != null ? after : "";
+        String delta = encode(base, target);
+        String replace = PREFIX + base.length() + ':'
+                + (base.isEmpty() ? "" : "-" + base.length() + ";")
+                + (target.isEmpty() ? "" : "+" + target.length() + ":" + target);
+        return delta != null && delta.length() < replace.length() ? delta : replace;
+    }
+
+    private static String encode(String before, String after) {
+
+        if (before == null || after == null) return null;
+
+        List<String> a = tokenize(before);
+        List<String> b = tokenize(after);
+
+        // 토큰 → 정수 (비교 비용 줄이기)
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = toIds(a, ids);
+        int[] y = toIds(b, ids);
+
+        // 앞뒤 공통 부분은 diff 대상에서 제외 (대부분의 수정은 일부분만 바뀜)
+        int prefix = 0;
+        while (prefix < x.length && prefix < y.length && x[prefix] == y[prefix]) prefix++;
+        int suffix = 0;
+        while (suffix < x.length - prefix && suffix < y.length - prefix
+                && x[x.length - 1 - suffix] == y[y.length - 1 - suffix]) suffix++;
+
+        int[] midX = Arrays.copyOfRange(x, prefix, x.length - suffix);
+        int[] midY = Arrays.copyOfRange(y, prefix, y.length - suffix);
+
+        List<Op> ops = new ArrayList<>();
+        addOp(ops, '=', charLength(a, 0, prefix), null);
+        if (!shortestEdit(midX, midY, a, b, prefix, ops)) return null;
+        addOp(ops, '=', charLength(a, x.length - suffix, x.length), null);
+
+        StringBuilder out = new StringBuilder(PREFIX).append(before.length()).append(':');
+        for (Op op : ops) {
+            out.append(op.type).append(op.length);
+            if (op.type == '+') out.append(':').append(op.text);
+            else out.append(';');
+        }
+
+        return out.toString();
+    }
+
+    // before에 변경분 적용, 형식 오류 또는 before가 기준 내용과 다르면 null
+    static String apply(String before, String delta) {
+
+        if (before == null || delta == null || !delta.startsWith(PREFIX)) return null;
+
+        try {
+            int pos = PREFIX.length();
+            int colon = delta.indexOf(':', pos);
+            if (Integer.parseInt(delta, pos, colon, 10) != before.length()) return null;
+            pos = colon + 1;
+
+            StringBuilder out = new StringBuilder(before.length());
+            int src = 0;
+
+            while (pos < delta.length()) {
+                char type = delta.charAt(pos++);
+                int end = pos;
+                while (Character.isDigit(delta.charAt(end))) end++;
+                int n = Integer.parseInt(delta, pos, end, 10);
+                pos = end + 1; // ';' 또는 ':'
+
+                switch (type) {
+                    case '=' -> {
+                        out.append(before, src, src + n);
+                        src += n;
+                    }
+                    case '-' -> src += n;
+                    case '+' -> {
+                        out.append(delta, pos, pos + n);
+                        pos += n;
+                    }
+                    default -> { return null; }
+                }
+                if (src > before.length()) return null;
+            }
+
+            return src == before.length() ? out.toString() : null;
+
+        } catch (RuntimeException e) {
+            return null; // 잘린 값 등
+        }
+    }
+
+    // Myers O(ND) diff, 편집 거리가 MAX_EDIT_DISTANCE를 넘으면 false
+    // trace에는 단계 d마다 k ∈ [-d, d] 구간만 보관 (메모리 O(D²))
+    private static boolean shortestEdit(int[] x, int[] y, List<String> a, List<String> b, int offset, List<Op> ops) {
+
+        int n = x.length;
+        int m = y.length;
+        int max = n + m;
+        int limit = Math.min(max, MAX_EDIT_DISTANCE);
+
+        int[] v = new int[2 * max + 3];
+        int mid = max + 1;
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= limit; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int px = (k == -d || (k != d && v[mid + k - 1] < v[mid + k + 1]))
+                        ? v[mid + k + 1]        // 위에서 내려옴 (삽입)
+                        : v[mid + k - 1] + 1;   // 왼쪽에서 옴 (삭제)
+                int py = px - k;
+                while (px < n && py < m && x[px] == y[py]) { px++; py++; }
+                v[mid + k] = px;
+
+                if (px >= n && py >= m) {
+                    trace.add(Arrays.copyOfRange(v, mid - d, mid + d + 1));
+                    backtrack(trace, n, m, a, b, offset, ops);
+                    return true;
+                }
+            }
+            trace.add(Arrays.copyOfRange(v, mid - d, mid + d + 1));
+        }
+        return false;
+    }
+
+    private static void backtrack(List<int[]> trace, int n, int m, List<String> a, List<String> b, int offset, List<Op> ops) {
+
+        List<Op> reversed = new ArrayList<>();
+        int px = n;
+        int py = m;
+
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] prev = trace.get(d - 1); // prev[k + (d - 1)]
+            int k = px - py;
+            boolean down = (k == -d || (k != d && prev[k - 1 + d - 1] < prev[k + 1 + d - 1]));
+            int prevK = down ? k + 1 : k - 1;
+            int prevX = prev[prevK + d - 1];
+            int prevY = prevX - prevK;
+            int startX = down ? prevX : prevX + 1;
+
+            while (px > startX) {
+                px--; py--;
+                reversed.add(new Op('=', a.get(offset + px).length(), null));
+            }
+            if (down) reversed.add(new Op('+', 0, b.get(offset + prevY)));
+            else reversed.add(new Op('-', a.get(offset + prevX).length(), null));
+
+            px = prevX;
+            py = prevY;
+        }
+        while (px > 0) {
+            px--;
+            reversed.add(new Op('=', a.get(offset + px).length(), null));
+        }
+
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            Op op = reversed.get(i);
+            addOp(ops, op.type, op.type == '+' ? op.text.length() : op.length, op.text);
+        }
+    }
+
+    // 같은 종류 명령은 이어 붙임
+    private static void addOp(List<Op> ops, char type, int length, String text) {
+        if (length == 0) return;
+        Op last = ops.isEmpty() ? null : ops.get(ops.size() - 1);
+        if (last != null && last.type == type) {
+            last.length += length;
+            if (type == '+') last.text += text;
+            return;
+        }
+        ops.add(new Op(type, length, text));
+    }
+
+    // 토큰: 태그(<...>), 글자/숫자 묶음, 공백 묶음, 그 외 한 글자
+    private static List<String> tokenize(String s) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            int end = i + 1;
+            if (c == '<') {
+                int close = s.indexOf('>', i);
+                end = close < 0 ? s.length() : close + 1;
+            } else if (Character.isLetterOrDigit(c)) {
+                while (end < s.length() && Character.isLetterOrDigit(s.charAt(end))) end++;
+            } else if (Character.isWhitespace(c)) {
+                while (end < s.length() && Character.isWhitespace(s.charAt(end))) end++;
+            }
+            tokens.add(s.substring(i, end));
+            i = end;
+        }
+        return tokens;
+    }
+
+    private static int[] toIds(List<String> tokens, Map<String, Integer> ids) {
+        int[] out = new int[tokens.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = ids.computeIfAbsent(tokens.get(i), t -> ids.size());
+        }
+        return out;
+    }
+
+    private static int charLength(List<String> tokens, int from, int to) {
+        int len = 0;
+        for (int i = from; i < to; i++) len += tokens.get(i).length();
+        return len;
+    }
+
+    private static final class Op {
+        final char type;
+        int length;
+        String text;
+
+        Op(char type, int length, String text) {
+            this.type = type;
+            this.length = length;
+            this.text = text;
+        }
+    }
+}
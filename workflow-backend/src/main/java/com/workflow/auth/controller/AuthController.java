@@ -1,7 +1,9 @@
 package com.workflow.auth.controller;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.workflow.auth.dto.LoginRequest;
 import com.workflow.auth.dto.Tokens;
 import com.workflow.auth.service.AuthService;
+import com.workflow.auth.service.LoginService;
 import com.workflow.common.exception.ApiException;
 import com.workflow.common.exception.ErrorCode;
 import com.workflow.common.util.CookieUtil;
@@ -26,18 +29,22 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginService loginService;
 
     // 로그인
+    // 비밀번호 비교(BCrypt)는 전용 풀에서 처리 → CompletableFuture 반환으로 요청 스레드 즉시 반납
+    // 해시 대기열이 가득 차면 429 + Retry-After
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request, HttpServletResponse res) {
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest request) {
         // 로그인 수행 후 access + refresh 토큰 발급
-        Tokens tokens = authService.login(request.email(), request.password());
-
-        // refreshToken 쿠키 저장 (HttpOnly + Secure + SameSite 필요)
-        CookieUtil.addHttpOnlyCookie(res, "refreshToken", tokens.refreshToken(), 20160);
-
-        // accessToken 반환
-        return ResponseEntity.ok(Map.of("accessToken", tokens.accessToken()));
+        return loginService.login(request.email(), request.password())
+                .thenApply(tokens -> ResponseEntity.ok()
+                        // refreshToken 쿠키 저장 (HttpOnly + Secure + SameSite 필요)
+                        // 비동기 완료 스레드에서 HttpServletResponse를 직접 만지지 않도록 헤더로 전달
+                        .header(HttpHeaders.SET_COOKIE,
+                                CookieUtil.httpOnlyCookie("refreshToken", tokens.refreshToken(), 20160).toString())
+                        // accessToken 반환
+                        .body(Map.of("accessToken", tokens.accessToken())));
     }
 
     // 토큰 갱신
@@ -57,7 +64,10 @@ public class AuthController {
         Tokens tokens = authService.refresh(refreshToken);
 
         // 새 refresh 쿠키 재설정
-        CookieUtil.addHttpOnlyCookie(res, "refreshToken", tokens.refreshToken(), 10080);
+        // (동시 갱신 grace 응답이면 refresh는 null → 먼저 회전한 요청이 세팅한 쿠키 유지)
+        if (tokens.refreshToken() != null) {
+            CookieUtil.addHttpOnlyCookie(res, "refreshToken", tokens.refreshToken(), 10080);
+        }
 
         // 새로운 accessToken 반환
         return ResponseEntity.ok(Map.of("accessToken", tokens.accessToken()));
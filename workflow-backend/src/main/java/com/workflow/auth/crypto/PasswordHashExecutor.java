@@ -0,0 +1,69 @@
+package com.workflow.auth.crypto;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+
+// BCrypt 비밀번호 비교 전용 스레드 풀
+// BCrypt는 일부러 CPU를 많이 쓰는 연산이라 Tomcat 요청 스레드에서 돌리면
+// 출근 시간 로그인 몰림 때 다른 API 요청까지 CPU/스레드 부족으로 밀림
+// → 고정 크기 풀 + 제한된 대기열에서만 처리, 대기열이 차면 바로 429 (Retry-After)
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder,
+                                @Value("${app.auth.password-hash.pool-size:2}") int poolSize,
+                                @Value("${app.auth.password-hash.queue-capacity:50}") int queueCapacity,
+                                @Value("${app.auth.password-hash.retry-after-seconds:3}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 대기열 상한
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()     // 가득 차면 RejectedExecutionException
+        );
+    }
+
+    // 평문 비밀번호와 저장된 해시 비교 (해시 풀에서 실행)
+    // 풀/대기열이 가득 차면 429 예외로 즉시 실패한 future 반환
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> passwordEncoder.matches(rawPassword, encodedPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ApiException(
+                    ErrorCode.TOO_MANY_REQUESTS,
+                    "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.",
+                    retryAfterSeconds));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
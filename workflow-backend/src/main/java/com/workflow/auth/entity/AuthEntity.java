@@ -27,10 +27,12 @@ import lombok.NoArgsConstructor;
     @Index(name = "idx_token_hash", columnList = "tokenHash"),
     // tokenHash 단건 조회 성능용 인덱스
     // refresh 시 hash로 바로 찾기 때문에 거의 PK급 중요도
-    @Index(name = "idx_user_revoked", columnList = "user_id, revoked_at")
+    @Index(name = "idx_user_revoked", columnList = "user_id, revoked_at"),
     // 유저의 "활성 토큰" 조회용 복합 인덱스
     // where user_id = ? and revoked_at is null
     // 로그아웃 시 전체 토큰 무효화할 때도 성능에 도움
+    @Index(name = "idx_refresh_tokens_family", columnList = "family_id")
+    // 재사용 감지 시 같은 family 전체 폐기용
 })
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 // 파라미터 없는 기본 생성자를 protected 접근제어자로 만들겠다. 
@@ -69,6 +71,21 @@ public class AuthEntity {
     // null이면 활성 토큰
     // 값 있으면 폐기된 토큰 (재사용 공격 방지용)
 
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+    // 로그인 1회에서 이어지는 refresh 토큰 묶음 (UUID)
+    // 회전 시 새 토큰도 같은 family로 발급
+    // 이미 회전된 토큰이 grace 시간 이후 다시 오면 탈취로 보고 family 전체 폐기
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+    // 새 토큰으로 교체(회전)된 시각
+    // null이면 아직 회전 전 (현재 사용 중인 토큰)
+
+    @Column(name = "replaced_by_hash", length = 64)
+    private String replacedByHash;
+    // 교체된 새 토큰의 해시 (회전 이력 추적용)
+
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt; 
     // 생성 시각
@@ -3,6 +3,8 @@ package com.workflow.auth.job;
 import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,14 @@ public class AuthTokenCleanupJob {
         this.authRepository = authRepository;
     }
 
+    // family_id 컬럼 추가 전에 발급된 토큰 보정
+    // 운영 DB는 ddl-auto=update로 컬럼만 추가되고 workflow.sql은 실행되지 않으므로 기동 시 한 번 채움
+    // (family가 없으면 재사용 감지 시 family 대신 사용자 전체 토큰을 폐기하게 됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFamilyIds() {
+        authRepository.backfillFamilyIds();
+    }
+
     // 매일 새벽 3시 실행
     // @Scheduled(cron = "0 0 3 * * *")
     // 10분
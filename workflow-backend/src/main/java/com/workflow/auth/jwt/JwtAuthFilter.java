@@ -4,10 +4,13 @@ import java.io.IOException;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.workflow.user.dto.UserSnapshot;
+import com.workflow.user.service.UserDirectory;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -25,11 +28,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
  // jwtProvider: JWT 파싱 + 서명/만료 검증 + claims 추출 담당
  private final JwtProvider jwtProvider;
 
- // userDetailsService:
- // userId를 기준으로 UserDetails(권한 포함)를 로딩하는 서비스
- // 메서드 이름은 loadUserByUsername지만 실제로는 "식별자 문자열"을 받는 용도
- // 여기서는 username 대신 userId를 문자열로 전달해서 사용
- private final UserDetailsService userDetailsService;
+ // userDirectory: userId → 사용자 스냅샷(권한 포함) 캐시
+ // 요청마다 users 테이블을 조회하지 않고 캐시된 role로 principal 생성
+ // 권한 변경 시 UserDirectory.evictUser로 무효화
+ private final UserDirectory userDirectory;
+
+ // true면 DB/캐시 없이 access 토큰의 sub + role 클레임만으로 principal 생성
+ // (권한 변경은 access 토큰 만료 후 재발급 시점에 반영됨)
+ private final boolean claimsPrincipal;
 
  @Override
  protected void doFilterInternal(
@@ -85,10 +91,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
          Long userId = jwtProvider.getUserId(claims);
 
          // 4. userId로 사용자 정보 로딩
-         // UserDetailsService의 메서드 이름은 username이지만
-         // 실제로는 "식별자 문자열"을 받는 용도라 userId를 문자열로 전달
-         // 여기서 권한 정보까지 같이 로딩됨
-         UserDetails user = userDetailsService.loadUserByUsername(String.valueOf(userId));
+         // claims 모드: 토큰의 role 클레임으로 바로 생성 (DB 조회 없음)
+         // 기본(cache) 모드: 디렉터리 캐시의 사용자 스냅샷 role로 생성 (캐시에 없을 때만 DB 조회)
+         UserDetails user = claimsPrincipal
+                 ? fromClaims(userId, jwtProvider.getRole(claims))
+                 : fromDirectory(userId);
 
          // 5. 인증 객체 생성
          // UsernamePasswordAuthenticationToken의 두 가지 용도
@@ -121,5 +128,27 @@ public class JwtAuthFilter extends OncePerRequestFilter {
      // 다음 필터 / 컨트롤러로 요청 전달
      filterChain.doFilter(request, response);
  }
+
+ // access 토큰 클레임만으로 principal 생성 (role 클레임 없으면 잘못된 토큰으로 처리)
+ private UserDetails fromClaims(Long userId, String role) {
+     if (role == null || role.isBlank()) {
+         throw new IllegalArgumentException("role claim 없음");
+     }
+     return User.withUsername(String.valueOf(userId))
+             .password("")
+             .roles(role)
+             .build();
+ }
+
+ // 디렉터리 캐시 스냅샷으로 principal 생성 (없는 사용자면 잘못된 토큰으로 처리)
+ // 인증 완료 후라 비밀번호 해시는 필요 없음
+ private UserDetails fromDirectory(Long userId) {
+     UserSnapshot u = userDirectory.findUser(userId)
+             .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+     return User.withUsername(String.valueOf(u.id()))
+             .password("")
+             .roles(u.role().name())
+             .build();
+ }
 }
 
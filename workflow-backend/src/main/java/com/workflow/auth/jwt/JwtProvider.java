@@ -1,7 +1,9 @@
 package com.workflow.auth.jwt;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 
 // SecretKey : 서명/검증에 사용할 키 타입
 // StandardCharsets.UTF_8 : 문자열을 바이트로 변환할 때 인코딩 고정
@@ -10,12 +12,15 @@ import javax.crypto.SecretKey;
 
 // @Component로 빈 등록
 // @Value로 application.properties/yml 값 주입
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.workflow.common.cache.TtlCache;
 import com.workflow.user.entity.UserEntity;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 // jjwt 라이브러리(0.12.x)의 핵심 클래스들
 // Jwts.builder() : 토큰 만들기
 // Jwts.parser() : 토큰 파싱/검증하기
@@ -36,13 +41,25 @@ public class JwtProvider {
 	private final long accessExpMillis;
 	private final long refreshExpMillis;
 
+	// 검증용 parser: 불변/thread-safe라서 한 번만 만들어 재사용
+	private final JwtParser parser;
+
+	// 검증 완료 access 토큰 캐시 (토큰 SHA-256 → claims, 토큰 exp까지만 유효, LRU로 개수 제한)
+	// SPA는 access 토큰 하나를 만료 전까지 계속 보내므로 같은 토큰의 서명 검증/JSON 파싱 반복을 생략
+	// refresh 토큰은 회전할 때 한 번만 쓰이므로 캐시하지 않음 (7일짜리 항목이 자리만 차지)
+	// 키가 토큰 전체의 해시라서 한 글자라도 다른(위조된) 토큰은 캐시에 걸리지 않고 정상 검증을 탐
+	// null이면 캐시 안 함 (max-entries 0)
+	private final TtlCache<String, Claims> verified;
+
 	// 생성자: 설정값 주입 + 가공
 	// @Value("${jwt.secret}"): application.properties에 있는 jwt.secret 값을 문자열로 주입
 	// @Value("${jwt.access-exp-min}"): access 토큰 만료시간(분)
 	// @Value("${jwt.refresh-exp-day}"): refresh 토큰 만료시간(일)
+	// @Value("${jwt.verified-cache.max-entries}"): 검증 완료 토큰 캐시 최대 개수 (0이면 캐시 안 함)
 	public JwtProvider(@Value("${jwt.secret}") String secret,
 	                   @Value("${jwt.access-exp-min}") long accessExpMin,
-	                   @Value("${jwt.refresh-exp-day}") long refreshExpDay) {
+	                   @Value("${jwt.refresh-exp-day}") long refreshExpDay,
+	                   @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries) {
 
 		// 보안 핵심 부분
 		// secret 문자열을 UTF-8 바이트 배열로 변환
@@ -55,6 +72,13 @@ public class JwtProvider {
 
 		// 일 → 밀리초 변환
 		this.refreshExpMillis = refreshExpDay * 24L * 60L * 60_000L;
+
+		this.parser = Jwts.parser().verifyWith(key).build();
+
+		// 항목별 만료 시각은 토큰 exp로 지정하므로 기본 TTL은 access 토큰 유효 기간
+		this.verified = verifiedCacheMaxEntries > 0
+				? new TtlCache<>(Duration.ofMillis(accessExpMillis), verifiedCacheMaxEntries)
+				: null;
 	}
 
 	// Access 토큰 생성
@@ -100,6 +124,9 @@ public class JwtProvider {
 		return Jwts.builder()
 				.subject(String.valueOf(userId))
 
+				// 토큰 고유 ID: 같은 초에 여러 번 발급(동시 회전/재로그인)해도 해시가 겹치지 않게
+				.id(UUID.randomUUID().toString())
+
 				// 토큰 타입 구분 (refresh)
 				.claim("typ", "refresh")
 
@@ -117,12 +144,26 @@ public class JwtProvider {
 		// 2. 만료(exp) 여부
 		// 3. 토큰 형식 유효성
 		// 하나라도 실패하면 예외 발생
+		// 이미 검증한 access 토큰이면 캐시된 claims 반환 (exp 지난 항목은 캐시에서 빠지고 parser가 만료 예외를 던짐)
+
+		if (verified == null) {
+			return parser.parseSignedClaims(token).getPayload();
+		}
+
+		String digest = DigestUtils.sha256Hex(token);
+
+		Claims cached = verified.getIfPresent(digest);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims = parser.parseSignedClaims(token).getPayload();
 
-		return Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
+		// access 토큰만, exp 있는 것만 캐시 (우리가 발급한 토큰은 항상 exp 포함)
+		if (isAccessToken(claims) && claims.getExpiration() != null) {
+			verified.put(digest, claims, claims.getExpiration().getTime());
+		}
+		return claims;
 	}
 
 	// 토큰 타입 체크
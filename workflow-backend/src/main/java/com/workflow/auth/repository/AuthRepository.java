@@ -4,24 +4,56 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.workflow.auth.entity.AuthEntity;
 import com.workflow.user.entity.UserEntity;
 
-import jakarta.persistence.LockModeType;
-
 public interface AuthRepository extends JpaRepository<AuthEntity, Long> {
 
-    // 토큰 검증 시 동시성 방지용
-    // SELECT로 읽은 row를 지금 트랜잭션이 끝날 때까지
-    // 다른 트랜잭션이 수정/삭제/잠금 못 하게 막는 역할
-    // → Refresh 토큰 탈취 동시 재사용 방지
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<AuthEntity> findByTokenHashAndRevokedAtIsNull(String tokenHash);
+    // 해시로 토큰 조회 (잠금 없음)
+    // 회전 경쟁은 rotate()의 조건부 UPDATE 한 번으로 판정하므로 SELECT FOR UPDATE 불필요
+    Optional<AuthEntity> findByTokenHash(String tokenHash);
+
+    // refresh 토큰 회전 (원자적 조건부 UPDATE + 새 토큰 INSERT를 한 문장으로)
+    // 아직 회전/폐기/만료 안 된 토큰만 rotated_at을 찍고, 같은 user/family로 새 토큰 row 생성
+    // 동시에 여러 탭이 같은 토큰으로 요청해도 row 잠금 대기 없이 하나만 1을 받고 나머지는 0
+    @Modifying
+    @Query(value = """
+        WITH rotated AS (
+            UPDATE refresh_tokens
+               SET rotated_at = :now,
+                   replaced_by_hash = :newHash
+             WHERE token_hash = :oldHash
+               AND user_id = :userId
+               AND revoked_at IS NULL
+               AND rotated_at IS NULL
+               AND expires_at > :now
+            RETURNING user_id, family_id
+        )
+        INSERT INTO refresh_tokens (user_id, family_id, token_hash, created_at, expires_at)
+        SELECT user_id, family_id, :newHash, :now, :expiresAt
+          FROM rotated
+        """, nativeQuery = true)
+    int rotate(@Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("userId") Long userId,
+               @Param("now") LocalDateTime now,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 재사용 감지: 같은 family의 활성 토큰 전부 폐기
+    @Modifying
+    @Query("""
+        update AuthEntity a
+           set a.revokedAt = :now
+         where a.familyId = :familyId
+           and a.revokedAt is null
+    """)
+    int revokeFamily(@Param("familyId") String familyId,
+                     @Param("now") LocalDateTime now);
 
     // 특정 유저의 토큰 조회
     Optional<AuthEntity> findByUser(UserEntity user);
@@ -44,12 +76,13 @@ public interface AuthRepository extends JpaRepository<AuthEntity, Long> {
                               @Param("now") LocalDateTime now);
 
     // 스케줄러용 토큰 정리 (로그 정리 목적)
-    // revoke 된 토큰 중 오래된 것 삭제
+    // revoke/회전된 토큰 중 오래된 것, 만료된 지 오래된 것 삭제
     @Modifying
     @Query("""
         delete from AuthEntity a
-         where a.revokedAt is not null
-           and a.revokedAt < :cutoff
+         where (a.revokedAt is not null and a.revokedAt < :cutoff)
+            or (a.rotatedAt is not null and a.rotatedAt < :cutoff)
+            or a.expiresAt < :cutoff
     """)
     int deleteRevokedBefore(@Param("cutoff") LocalDateTime cutoff);
 
@@ -57,16 +90,28 @@ public interface AuthRepository extends JpaRepository<AuthEntity, Long> {
     // 중복 token_hash 발생 시 기존 row update
     @Modifying
     @Query(value = """
-        INSERT INTO refresh_tokens (user_id, token_hash, created_at, expires_at, revoked_at)
-        VALUES (:userId, :tokenHash, :createdAt, :expiresAt, :revokedAt)
+        INSERT INTO refresh_tokens (user_id, family_id, token_hash, created_at, expires_at, revoked_at)
+        VALUES (:userId, :familyId, :tokenHash, :createdAt, :expiresAt, :revokedAt)
         ON CONFLICT (token_hash)
         DO UPDATE SET
             expires_at = EXCLUDED.expires_at,
             revoked_at = EXCLUDED.revoked_at
         """, nativeQuery = true)
     void upsertToken(@Param("userId") Long userId,
+                     @Param("familyId") String familyId,
                      @Param("tokenHash") String tokenHash,
                      @Param("createdAt") LocalDateTime createdAt,
                      @Param("expiresAt") LocalDateTime expiresAt,
                      @Param("revokedAt") LocalDateTime revokedAt);
+
+    // family_id 없는 기존 토큰은 각각 별도 family로 (회전 재사용 감지 대상)
+    // 이미 채워진 row는 건드리지 않으므로 기동마다 실행해도 안전
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE refresh_tokens
+           SET family_id = CAST(gen_random_uuid() AS text)
+         WHERE family_id IS NULL
+        """, nativeQuery = true)
+    int backfillFamilyIds();
 }
@@ -1,8 +1,9 @@
 package com.workflow.auth.service;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,7 @@ import com.workflow.common.exception.ErrorCode;
 import com.workflow.user.entity.UserEntity;
 import com.workflow.user.enums.UserStatus;
 import com.workflow.user.repository.UserRepository;
+import com.workflow.user.service.UserDirectory;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
@@ -27,20 +29,21 @@ import lombok.RequiredArgsConstructor;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final AuthRepository authRepository;
     private final TokenHashProvider tokenHashProvider;
+    private final UserDirectory userDirectory;
 
-    // 로그인
-    public Tokens login(String email, String password) {
+    // 이미 회전된 refresh 토큰을 동시 요청으로 인정하는 시간 (초)
+    @Value("${app.auth.refresh-grace-seconds:30}")
+    private long refreshGraceSeconds;
 
-        UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 다릅니다."));
+    // 로그인 토큰 발급 (비밀번호 검증이 끝난 사용자)
+    // 비밀번호 비교(BCrypt)는 LoginService에서 해시 전용 풀로 처리한 뒤 호출
+    public Tokens issueLoginTokens(Long userId) {
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 다릅니다.");
-        }
+        UserEntity user = userRepository.findWithDepartmentById(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 다릅니다."));
 
         LocalDateTime now = LocalDateTime.now();
 
@@ -51,13 +54,17 @@ public class AuthService {
         user.setStatus(UserStatus.ONLINE);
         user.setLastLoginAt(now);
 
+        // 새 로그인 → 권한/소속이 바뀌었을 수 있으므로 사용자 디렉터리 캐시 갱신 (principal도 여기서 생성)
+        userDirectory.evictUser(user.getId());
+
         String accessToken = jwtProvider.createAccessToken(user);
         String refreshToken = jwtProvider.createRefreshToken(user.getId());
         String hashToken = tokenHashProvider.hashRefreshToken(refreshToken);
 
-        // DB에 upsert
+        // DB에 upsert (로그인마다 새 family 시작)
         authRepository.upsertToken(
             user.getId(),
+            UUID.randomUUID().toString(),
             hashToken,
             now,
             now.plusDays(7),
@@ -67,8 +74,13 @@ public class AuthService {
         return new Tokens(accessToken, refreshToken);
     }
 
-    // 리프래쉬 토큰으로 액세스 토큰 발급
-    @Transactional
+    // 리프래쉬 토큰으로 액세스 토큰 발급 (refresh 토큰 회전)
+    // 1) 조건부 UPDATE 한 번으로 회전 시도 → 성공하면 새 access + refresh 발급
+    // 2) 실패(0건)면 잠금 없이 토큰 상태 확인
+    //    - grace 시간 안에 이미 회전된 토큰: 여러 탭 동시 갱신으로 보고 access만 새로 발급 (쿠키는 먼저 회전한 요청 값 유지)
+    //    - grace 시간 지난 회전 토큰 재사용: 탈취 의심 → family 전체 폐기
+    // 재사용 감지 시 폐기 UPDATE가 롤백되지 않도록 ApiException은 롤백 제외
+    @Transactional(noRollbackFor = ApiException.class)
     public Tokens refresh(String refreshToken) {
 
     	// 토큰 확인
@@ -86,50 +98,62 @@ public class AuthService {
             Long userId = jwtProvider.getUserId(claims);
             String oldHash = tokenHashProvider.hashRefreshToken(refreshToken);
 
-            // 기존 refresh token 조회
-            AuthEntity auth = authRepository.findByTokenHashAndRevokedAtIsNull(oldHash)
-                    .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "로그아웃 또는 폐기된 토큰입니다."));
-
             LocalDateTime now = LocalDateTime.now();
 
-            // 만료 확인
-            if (auth.getExpiresAt() != null && auth.getExpiresAt().isBefore(now)) {
-                throw new ApiException(ErrorCode.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
+            // 새 refresh 발급 후 회전 시도
+            String newRefreshToken = jwtProvider.createRefreshToken(userId);
+            String newHash = tokenHashProvider.hashRefreshToken(newRefreshToken);
+
+            int rotated = authRepository.rotate(oldHash, newHash, userId, now, now.plusDays(7));
+
+            if (rotated == 1) {
+                // 새 엑세스 토큰 발급
+                return new Tokens(jwtProvider.createAccessToken(loadUser(userId)), newRefreshToken);
             }
 
+            // 회전 실패: 기존 토큰 상태 확인 (잠금 없음)
+            AuthEntity auth = authRepository.findByTokenHash(oldHash)
+                    .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "로그아웃 또는 폐기된 토큰입니다."));
+
             // 사용자 일치 확인
             if (!auth.getUser().getId().equals(userId)) {
                 throw new ApiException(ErrorCode.UNAUTHORIZED, "토큰 사용자가 불일치합니다.");
             }
 
-            UserEntity user = auth.getUser();
-
-            // 기존 refresh 토큰 폐기
-            authRepository.revokeAllActiveByUser(user, now);
-
-            // 새 refresh 발급
-            String newRefreshToken = jwtProvider.createRefreshToken(user.getId());
-            String newHash = tokenHashProvider.hashRefreshToken(newRefreshToken);
+            if (auth.getRevokedAt() != null) {
+                throw new ApiException(ErrorCode.UNAUTHORIZED, "로그아웃 또는 폐기된 토큰입니다.");
+            }
 
-            // DB upsert
-            authRepository.upsertToken(
-                user.getId(),
-                newHash,
-                now,
-                now.plusDays(7),
-                null
-            );
+            // 만료 확인
+            if (auth.getExpiresAt() != null && !auth.getExpiresAt().isAfter(now)) {
+                throw new ApiException(ErrorCode.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
+            }
 
-            // 새 엑세스 토큰 발급
-            String newAccessToken = jwtProvider.createAccessToken(user);
+            // 여기까지 왔으면 이미 회전된 토큰
+            if (auth.getRotatedAt() != null && !auth.getRotatedAt().plusSeconds(refreshGraceSeconds).isBefore(now)) {
+                // grace 시간 내 동시 요청: access 토큰만 발급, refresh 쿠키는 그대로 (null)
+                return new Tokens(jwtProvider.createAccessToken(loadUser(userId)), null);
+            }
 
-            return new Tokens(newAccessToken, newRefreshToken);
+            // grace 시간 지난 재사용 → family 전체 폐기 (family 없는 이전 토큰은 사용자 전체 폐기)
+            if (auth.getFamilyId() != null) {
+                authRepository.revokeFamily(auth.getFamilyId(), now);
+            } else {
+                authRepository.revokeAllActiveByUser(auth.getUser(), now);
+            }
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
 
         } catch (JwtException | IllegalArgumentException e) {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다.");
         }
     }
 
+    // access 토큰 클레임(이름/이메일/부서)용 사용자 조회
+    private UserEntity loadUser(Long userId) {
+        return userRepository.findWithDepartmentById(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+    }
+
     // 로그아웃
     @Transactional
     public void logout(String refreshToken) {
@@ -141,10 +165,10 @@ public class AuthService {
             String hashToken = tokenHashProvider.hashRefreshToken(refreshToken);
 
             AuthEntity auth = authRepository
-                    .findByTokenHashAndRevokedAtIsNull(hashToken)
+                    .findByTokenHash(hashToken)
                     .orElse(null);
 
-            if (auth == null) return;
+            if (auth == null || auth.getRevokedAt() != null) return;
 
             UserEntity user = auth.getUser();
 
@@ -152,6 +176,7 @@ public class AuthService {
             authRepository.revokeAllActiveByUser(user, now);
 
             user.setStatus(UserStatus.OFFLINE);
+            userDirectory.evictUser(user.getId());
 
         } catch (IllegalArgumentException e) {
             return;
@@ -0,0 +1,58 @@
+package com.workflow.auth.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.workflow.auth.crypto.PasswordHashExecutor;
+import com.workflow.auth.dto.Tokens;
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+import com.workflow.user.entity.UserEntity;
+import com.workflow.user.repository.UserRepository;
+
+// 로그인 (비동기)
+// 1) 이메일로 사용자 조회 (요청 스레드, 가벼운 단건 조회)
+// 2) BCrypt 비교는 PasswordHashExecutor 전용 풀에서 → 요청 스레드는 바로 반환 (MVC 비동기 응답)
+// 3) 비교 성공 시 AuthService 트랜잭션에서 토큰 발급 (스프링 기본 작업 풀에서)
+//    해시 풀 스레드에서 DB 트랜잭션을 돌리면 커넥션 대기 동안 다음 BCrypt 비교가 밀리므로 풀을 넘겨서 실행
+// 트랜잭션 없는 별도 빈: future 완료 시점에 AuthService 프록시를 거쳐야 트랜잭션이 적용됨
+@Service
+public class LoginService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final AuthService authService;
+    private final Executor tokenExecutor;
+
+    // applicationTaskExecutor: 스프링 부트 기본 작업 풀 (MVC 비동기 처리에도 쓰이는 풀)
+    public LoginService(UserRepository userRepository,
+                        PasswordHashExecutor passwordHashExecutor,
+                        AuthService authService,
+                        @Qualifier("applicationTaskExecutor") Executor tokenExecutor) {
+        this.userRepository = userRepository;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.authService = authService;
+        this.tokenExecutor = tokenExecutor;
+    }
+
+    public CompletableFuture<Tokens> login(String email, String password) {
+
+        UserEntity user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 다릅니다."));
+
+        Long userId = user.getId();
+
+        // 해시 풀/대기열이 가득 차면 429 (Retry-After)로 실패한 future
+        // 비교 결과 확인 + 토큰 발급은 해시 풀이 아닌 작업 풀에서
+        return passwordHashExecutor.matches(password, user.getPassword())
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 다릅니다.");
+                    }
+                    return authService.issueLoginTokens(userId);
+                }, tokenExecutor);
+    }
+}
@@ -0,0 +1,111 @@
+package com.workflow.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 프로세스 내 캐시 (TTL 만료 + 최대 개수 제한, LRU)
+// access-order LinkedHashMap: 조회된 항목은 맨 뒤로, 가득 차면 가장 오래 안 쓴 항목 하나만 제거 (전체 순회 없음)
+// 조회도 순서를 바꾸므로 맵 조작은 synchronized, loader(DB 조회 등)는 락 밖에서 실행
+// 만료된 항목은 조회될 때 지우거나 LRU 순서로 밀려나서 제거됨
+public final class TtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TtlCache(Duration ttl, int maxEntries) {
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be positive");
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean full = size() > TtlCache.this.maxEntries;
+                if (full) evictions++;
+                return full;
+            }
+        };
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료됐으면 loader로 조회 후 저장 (loader 결과가 null이면 저장하지 않음)
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) return cached;
+
+        V value = loader.apply(key);
+        if (value != null) put(key, value);
+        return value;
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료됐으면 null
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+            hits++;
+            return entry.value();
+        }
+
+        misses++;
+        if (entry != null) {
+            map.remove(key);
+            evictions++; // TTL 만료
+        }
+        return null;
+    }
+
+    // 기본 TTL로 저장
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    // 만료 시각 지정 저장 (토큰 exp처럼 항목마다 유효 기간이 다른 경우)
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        map.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public synchronized void evict(K key) {
+        if (map.remove(key) != null) evictions++;
+    }
+
+    // 값 조건으로 무효화 (전체 순회, 부서 변경처럼 드문 경우에만 사용)
+    public synchronized void evictValues(Predicate<? super V> matches) {
+        Iterator<Entry<V>> it = map.values().iterator();
+        while (it.hasNext()) {
+            if (matches.test(it.next().value())) {
+                it.remove();
+                evictions++;
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        evictions += map.size();
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
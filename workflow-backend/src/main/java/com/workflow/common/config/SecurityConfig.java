@@ -2,6 +2,7 @@ package com.workflow.common.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,7 +11,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -21,6 +21,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.workflow.auth.jwt.JwtAuthFilter;
 import com.workflow.auth.jwt.JwtProvider;
+import com.workflow.user.service.UserDirectory;
 
 // 스프링 설정 클래스, 클래스 안의 @Bean들을 스프링이 등록함.
 @Configuration
@@ -70,8 +71,12 @@ public class SecurityConfig {
                 	// refresh도 access 만료 시 재발급용이라 permit
                 	.requestMatchers(HttpMethod.POST, "/api/refresh").permitAll()
                 	
+                	// 첨부 blob(임시 파일 포함)은 정적 경로로 열지 않음 → 권한 확인하는 /api/attachments/{id}/download로만
+                	.requestMatchers("/uploads/blobs/**").denyAll()
+
                 	// 로그인 안해도 이미지 보이게
                 	.requestMatchers("/uploads/**").permitAll()
+                	.requestMatchers("/images/**").permitAll() // 에디터 이미지 축소본
 
                     // 관리자 API는 ADMIN 권한 필요
                     // hasRole("ADMIN") → 내부적으로 ROLE_ADMIN 비교
@@ -110,7 +115,9 @@ public class SecurityConfig {
 		// 브라우저에서 접근 가능하게 노출할 헤더
 		// Authorization → JWT 전달용
 		// Content-Disposition → 파일 다운로드용
-		config.setExposedHeaders(List.of("Authorization", "Content-Disposition"));
+		// ETag / Content-Range / Accept-Ranges → 다운로드 이어받기, 조건부 요청용
+		config.setExposedHeaders(List.of("Authorization", "Content-Disposition",
+				"ETag", "Content-Range", "Accept-Ranges"));
 
 		// credentials = 쿠키 / 인증 정보
 		// JWT를 헤더로만 쓸 거면 false 권장
@@ -135,9 +142,11 @@ public class SecurityConfig {
 
 	// 비밀번호를 평문으로 비교하면 위험하니 해시로 비교
 	// BCryptPasswordEncoder가 가장 흔한 표준
+	// app.auth.bcrypt-strength: 작업 계수 (2^strength 반복, 기본 10)
+	// 기존 해시는 해시 안에 자기 strength가 들어 있어서 값을 바꿔도 그대로 검증됨
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt-strength:10}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 
 	// /login에서 authenticate() 쓸 때 필요
@@ -150,8 +159,10 @@ public class SecurityConfig {
 
 	// 필터도 Bean으로 등록 (순환참조 끊기)
 	// JwtAuthFilter를 스프링 빈으로 등록해서 위의 .addFilterBefore(jwtAuthFilter, ...)에 주입되게 함.
+	// app.auth.principal-source: cache(기본, 사용자 디렉터리 캐시) | claims(토큰 클레임만 사용)
 	@Bean
-	public JwtAuthFilter jwtAuthFilter(JwtProvider jwtProvider, UserDetailsService userDetailsService) {
-		return new JwtAuthFilter(jwtProvider, userDetailsService);
+	public JwtAuthFilter jwtAuthFilter(JwtProvider jwtProvider, UserDirectory userDirectory,
+	                                   @Value("${app.auth.principal-source:cache}") String principalSource) {
+		return new JwtAuthFilter(jwtProvider, userDirectory, "claims".equalsIgnoreCase(principalSource));
 	}
 }
@@ -1,9 +1,13 @@
 package com.workflow.common.config;
 
+import java.io.IOException;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.PathResourceResolver;
 
 // 스프링 MVC 설정 클래스
 // 정적 리소스 매핑(파일 접근 경로)을 커스터마이징하기 위해 사용
@@ -28,6 +32,18 @@ public class WebConfig implements WebMvcConfigurer {
                 // file: 접두어는 "로컬 파일 시스템 경로"라는 의미
                 // uploadDir 경로 하위 파일들을 브라우저에서 접근 가능하게 함
                 // 마지막 "/" 필수 (디렉토리 기준 매핑)
-                .addResourceLocations("file:" + uploadDir + "/");
+                .addResourceLocations("file:" + uploadDir + "/")
+
+                // 첨부 blob 폴더(blobs/, 업로드 임시 파일 blobs/tmp 포함)는 제외
+                // 첨부는 권한 확인 후 /api/attachments/{id}/download로만 전송
+                .resourceChain(false)
+                .addResolver(new PathResourceResolver() {
+                    @Override
+                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
+                        // 대소문자 구분 없는 파일 시스템(Windows) 대비
+                        if (resourcePath.regionMatches(true, 0, "blobs/", 0, "blobs/".length())) return null;
+                        return super.getResource(resourcePath, location);
+                    }
+                });
     }
 }
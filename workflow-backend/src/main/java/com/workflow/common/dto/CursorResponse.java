@@ -0,0 +1,26 @@
+package com.workflow.common.dto;
+
+import java.util.List;
+
+// 공통 커서(keyset) 페이징 응답 DTO
+// 무한 스크롤용: 전체 개수(count 쿼리) 없이 다음 페이지 커서만 전달
+public record CursorResponse<T>(
+
+        // 실제 데이터 목록
+        List<T> content,
+
+        // 요청한 페이지 크기
+        int size,
+
+        // 다음 페이지 요청 시 그대로 넘기는 커서 (마지막 페이지면 null)
+        String nextCursor,
+
+        // 다음 페이지 존재 여부
+        boolean hasNext
+
+) {
+
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(content, size, nextCursor, nextCursor != null);
+    }
+}
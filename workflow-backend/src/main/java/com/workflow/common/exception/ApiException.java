@@ -6,12 +6,14 @@ public class ApiException extends RuntimeException {
 
     private final ErrorCode errorCode; // 예외와 연결된 내부 코드 + HTTP 상태 정보
     private final String customMessage; // 필요 시 사용자 정의 메시지
+    private final long retryAfterSeconds; // 429 등 재시도 안내 (Retry-After 헤더, 0이면 없음)
 
     // 기본 메시지 사용
     public ApiException(ErrorCode errorCode) {
         super(errorCode.getDefaultMessage()); // RuntimeException 기본 메시지에도 넣어둠
         this.errorCode = errorCode;
         this.customMessage = null; // 커스텀 메시지가 없으면 기본 메시지를 사용
+        this.retryAfterSeconds = 0;
     }
 
     // 메시지 커스터마이징
@@ -19,12 +21,25 @@ public class ApiException extends RuntimeException {
         super(customMessage); // RuntimeException 기본 메시지에도 커스텀 메시지 저장
         this.errorCode = errorCode;
         this.customMessage = customMessage; // 실제 사용자/프론트로 내려줄 메시지
+        this.retryAfterSeconds = 0;
+    }
+
+    // 메시지 + 재시도 대기 시간(초) 지정
+    public ApiException(ErrorCode errorCode, String customMessage, long retryAfterSeconds) {
+        super(customMessage);
+        this.errorCode = errorCode;
+        this.customMessage = customMessage;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 
     public ErrorCode getErrorCode() {
         return errorCode; // 예외 처리 핸들러에서 HTTP 상태 및 내부 코드 확인용
     }
 
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds; // 0보다 크면 글로벌 핸들러에서 Retry-After 헤더 추가
+    }
+
     // 실제 내려줄 메시지
     public String getMessageToSend() {
         // 커스텀 메시지가 있으면 우선, 없으면 ErrorCode 기본 메시지 사용
@@ -21,6 +21,9 @@ public enum ErrorCode {
     // 409 Conflict 관련 (동시 수정 등)
     CONFLICT(HttpStatus.CONFLICT, "다른 사용자가 이미 수정했습니다. 페이지를 새로고침 후 다시 시도하세요."),
 
+    // 429 Too Many Requests 관련 (처리 대기열 초과)
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도하세요."),
+
     // 500 Internal Server Error 관련
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."); // 서버 내부 문제
 	
@@ -1,6 +1,7 @@
 package com.workflow.common.exception;
 
 import com.workflow.common.response.ApiError;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -16,8 +17,14 @@ public class GlobalExceptionHandler {
         ErrorCode errorCode = e.getErrorCode(); // 예외에서 ErrorCode 가져오기
 
         // ResponseEntity에 HTTP 상태, body(ApiError) 설정
-        return ResponseEntity
-                .status(errorCode.getStatus()) // HTTP 상태 코드 지정
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(errorCode.getStatus()); // HTTP 상태 코드 지정
+
+        // 재시도 안내가 있으면 Retry-After 헤더 (429 등)
+        if (e.getRetryAfterSeconds() > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+
+        return response
                 .body(ApiError.of(
                         errorCode.name(),        // 내부 코드 이름
                         e.getMessageToSend()     // 사용자/프론트에 전달할 메시지
@@ -0,0 +1,27 @@
+package com.workflow.common.file;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+// 첨부파일 blob 저장소 (key: "blobs/{ab}/{sha256}")
+// app.storage.type=local → LocalBlobStore (app.upload-dir 아래 로컬 디스크)
+// app.storage.type=s3    → S3BlobStore (AWS S3 / MinIO 등 S3 호환 스토리지, 여러 백엔드 노드가 공유)
+public interface BlobStore {
+
+    // key에 해당하는 blob이 있는지
+    boolean exists(String key) throws IOException;
+
+    // 로컬 임시 파일을 key 위치에 저장
+    // 로컬은 rename, S3는 업로드 (큰 파일은 multipart), 임시 파일 정리는 호출부 담당
+    void put(String key, Path source, long sizeBytes, String contentType) throws IOException;
+
+    // blob 삭제 (없으면 무시)
+    void delete(String key) throws IOException;
+
+    // 로컬 디스크 파일 경로 (로컬 저장소만, Range/zero-copy 다운로드용)
+    Optional<Path> localFile(String key);
+
+    // 다운로드용 서명 URL (원격 저장소만, 파일 바이트가 백엔드를 거치지 않음)
+    Optional<String> presignedDownloadUrl(String key, String filename, String contentType);
+}
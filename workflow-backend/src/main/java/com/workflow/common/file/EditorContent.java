@@ -0,0 +1,9 @@
+package com.workflow.common.file;
+
+import java.util.List;
+
+// 에디터 본문 처리 결과 (tmp 이미지 확정 + URL 치환 후)
+public record EditorContent(
+        String content,     // 치환된 본문 HTML
+        List<String> images // 본문 <img> src 목록 (치환 후 기준, 이미지 diff용)
+) {}
@@ -0,0 +1,169 @@
+package com.workflow.common.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드 파일 일괄 이동/삭제 (에디터 이미지 tmp → 확정 폴더)
+// - 이동: 전용 I/O 풀에서 병렬 실행, 하나라도 실패하면 이미 옮긴 것 되돌리고 예외
+// - 트랜잭션 안이면 롤백 시 옮긴 파일을 tmp로 되돌리고, 삭제는 커밋 후에만 실행
+//   → DB와 디스크 상태가 어긋나지 않음 (롤백됐는데 파일만 옮겨진/지워진 상태 방지)
+@Slf4j
+@Component
+public class FileMoveExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public FileMoveExecutor(@Value("${app.upload.move-pool-size:4}") int poolSize,
+                            @Value("${app.upload.move-queue-capacity:200}") int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 대기열 상한
+                r -> {
+                    Thread t = new Thread(r, "file-move-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy() // 가득 차면 요청 스레드에서 직접 실행 (자연스러운 속도 조절)
+        );
+    }
+
+    // 파일 일괄 이동 (src가 없으면 건너뜀)
+    public void moveAll(List<FileMove> moves) {
+
+        if (moves == null || moves.isEmpty()) return;
+
+        try {
+            // 대상 폴더는 이동 전에 한 번씩만 생성
+            LinkedHashSet<Path> dirs = new LinkedHashSet<>();
+            for (FileMove m : moves) dirs.add(m.dst().getParent());
+            for (Path dir : dirs) Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "파일 이동 실패");
+        }
+
+        List<FileMove> moved = new ArrayList<>();
+        RuntimeException failure = null;
+
+        if (moves.size() == 1) {
+            // 1개면 풀로 넘기지 않고 바로 실행
+            try {
+                if (move(moves.get(0))) moved.add(moves.get(0));
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        } else {
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>(moves.size());
+            for (FileMove m : moves) {
+                futures.add(CompletableFuture.supplyAsync(() -> move(m), executor));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    if (futures.get(i).join()) moved.add(moves.get(i));
+                } catch (CompletionException e) {
+                    if (failure == null) failure = new ApiException(ErrorCode.INTERNAL_ERROR, "파일 이동 실패");
+                }
+            }
+        }
+
+        if (failure != null) {
+            undo(moved); // 일부만 옮겨진 상태로 남기지 않음
+            throw failure instanceof ApiException ? failure : new ApiException(ErrorCode.INTERNAL_ERROR, "파일 이동 실패");
+        }
+
+        // 트랜잭션 롤백 시 tmp로 되돌림 (tmp 파일은 UploadCleanupScheduler가 TTL 후 정리)
+        if (!moved.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) undo(moved);
+                }
+            });
+        }
+    }
+
+    // 파일 삭제 (트랜잭션 안이면 커밋 후, 아니면 즉시)
+    // 커밋 후에는 요청을 실패시킬 수 없으므로 개별 실패는 로그만 남김
+    public void deleteAfterCommit(List<Path> paths) {
+
+        if (paths == null || paths.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Path> targets = List.copyOf(paths);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteAll(targets);
+                }
+            });
+            return;
+        }
+
+        deleteAll(paths);
+    }
+
+    // src → dst 이동, src가 없으면 false
+    private boolean move(FileMove m) {
+        try {
+            Files.move(m.src(), m.dst(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false; // 이미 옮겨졌거나 tmp 정리된 파일
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // 옮긴 파일 되돌리기 (dst → src)
+    private void undo(List<FileMove> moved) {
+        for (FileMove m : moved) {
+            try {
+                Files.move(m.dst(), m.src(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                log.warn("파일 이동 되돌리기 실패: {} → {}", m.dst(), m.src(), e);
+            }
+        }
+    }
+
+    private void deleteAll(List<Path> paths) {
+        for (Path p : paths) {
+            try {
+                Files.deleteIfExists(p);
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패: {}", p, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // 파일 이동 1건 (src → dst)
+    public record FileMove(Path src, Path dst) {}
+}
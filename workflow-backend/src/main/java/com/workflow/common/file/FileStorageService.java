@@ -2,28 +2,52 @@ package com.workflow.common.file;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.nio.file.*;
 import java.util.*;
 import java.util.regex.*;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.workflow.common.exception.ApiException;
 import com.workflow.common.exception.ErrorCode;
+import com.workflow.common.file.FileMoveExecutor.FileMove;
+import com.workflow.common.upload.ImageVariant;
 
 @Service
 public class FileStorageService {
 
+    // 에디터 본문 <img src="..."> (정규식은 한 번만 컴파일)
+    private static final Pattern IMG_SRC = Pattern.compile("<img[^>]+src\\s*=\\s*\"([^\"]+)\"");
+
     private final Path root;
+    private final BlobStore blobStore; // 첨부 blob 저장소 (로컬 디스크 / S3 호환)
+    private final FileMoveExecutor fileMoveExecutor; // 에디터 이미지 일괄 이동/커밋 후 삭제
+
+    // module별 tmp 이미지 경로 패턴 / 본문 처리 패턴 캐시 (module은 editorDir 규칙으로 제한되어 개수가 적음)
+    private final Map<String, Pattern> tmpPathPatterns = new ConcurrentHashMap<>();
+    private final Map<String, Pattern> editorContentPatterns = new ConcurrentHashMap<>();
 
-    public FileStorageService(@Value("${app.upload-dir}") String uploadDir) {
+    public FileStorageService(@Value("${app.upload-dir}") String uploadDir,
+                              BlobStore blobStore,
+                              FileMoveExecutor fileMoveExecutor) {
         this.root = Paths.get(uploadDir).toAbsolutePath().normalize(); // 업로드 루트 디렉토리 설정, 안전하게 절대 경로로 변환
+        this.blobStore = blobStore;
+        this.fileMoveExecutor = fileMoveExecutor;
     }
 
+    // 에디터 이미지를 받는 module (업로드 루트 아래 폴더 이름)
+    // blobs(첨부 저장소) 같은 다른 폴더가 에디터 이미지 경로(본문 처리, /images/...)로 열리지 않도록 목록으로 제한
+    public static final Set<String> EDITOR_MODULES = Set.of("tasks");
+
     private String editorDir(String module) {
 
         if (module == null || module.isBlank()) {
@@ -36,7 +60,11 @@ public class FileStorageService {
             throw new ApiException(ErrorCode.BAD_REQUEST, "module 형식 오류"); // module 규칙 확인
         }
 
-        return m; // 예: "tasks", "profile", 안전하게 소문자+문자 제한
+        if (!EDITOR_MODULES.contains(m)) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "허용되지 않는 module"); // 에디터 module 목록 확인
+        }
+
+        return m; // 예: "tasks", 안전하게 소문자+문자 제한
     }
 
     // 작성 중 업로드 → tmp 저장
@@ -92,7 +120,7 @@ public class FileStorageService {
             }
 
             try (InputStream in = file.getInputStream()) {
-                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING); // 파일 저장, 기존 파일 덮어쓰기
+                writeOnce(in, target, maxImageBytes, "이미지는 5MB 이하만 업로드 가능합니다."); // 파일 저장
             }
 
             return "/uploads/" + dirName + "/tmp/" + storedName; // URL 반환
@@ -111,12 +139,7 @@ public class FileStorageService {
 
         String dirName = editorDir(module);
 
-        Pattern p = Pattern.compile(
-                "(?:https?://[^\"']+)?(/uploads/" + Pattern.quote(dirName) + "/tmp/[^\"'\\s>]+)",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        Matcher m = p.matcher(content);
+        Matcher m = tmpPathPattern(dirName).matcher(content);
 
         LinkedHashSet<String> set = new LinkedHashSet<>();
         while (m.find()) set.add(m.group(1)); // 중복 제거 + 순서 유지
@@ -124,14 +147,8 @@ public class FileStorageService {
         return new ArrayList<>(set); // 리스트로 변환하여 반환
     }
 
-    // tmp → {module}/{ownerId}/ 이동
-    public String moveTmpToOwnerDir(String tmpPath, String module, Long ownerId) {
-
-        if (ownerId == null || ownerId <= 0) {
-            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 ID"); // ownerId 검증
-        }
-
-        String dirName = editorDir(module);
+    // tmp → {module}/{ownerId}/ 이동 계획 (실제 이동은 FileMoveExecutor.moveAll에서 일괄 처리)
+    private String planTmpMove(String tmpPath, String dirName, Long ownerId, List<FileMove> moves) {
 
         try {
             String fileName = Paths.get(tmpPath).getFileName().toString();
@@ -140,7 +157,6 @@ public class FileStorageService {
 
             // 최종 폴더 = {module}/{ownerId}/
             Path ownerDir = root.resolve(Paths.get(dirName, String.valueOf(ownerId))).normalize();
-            Files.createDirectories(ownerDir); // 폴더 없으면 생성
 
             Path dst = ownerDir.resolve(fileName).normalize();
 
@@ -149,38 +165,95 @@ public class FileStorageService {
                 throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
             }
 
-            if (Files.exists(src)) {
-                Files.move(src, dst, StandardCopyOption.REPLACE_EXISTING); // 이동
-            }
+            moves.add(new FileMove(src, dst));
 
             return "/uploads/" + dirName + "/" + ownerId + "/" + fileName; // URL 반환
 
         } catch (InvalidPathException e) {
             throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로"); // Path 형식 오류
-        } catch (IOException e) {
-            throw new ApiException(ErrorCode.INTERNAL_ERROR, "파일 이동 실패"); // IO 오류
         }
     }
 
     // tmp 이미지들 확정 폴더로 이동 + URL 치환
     public String commitEditorImagesInContent(String content, String module, Long ownerId) {
+        return commitEditorContent(content, module, ownerId).content();
+    }
+
+    // tmp 이미지 확정 이동 + URL 치환 + 최종 <img> 목록 추출을 본문 한 번 훑으면서 처리
+    // 이미지마다 본문 전체를 String.replace 하던 방식(이미지 수 × 본문 길이) 대신 Matcher로 한 번에 다시 씀
+    // 파일 이동은 치환하면서 모아 두었다가 마지막에 병렬 일괄 실행 (트랜잭션 롤백 시 되돌림)
+    public EditorContent commitEditorContent(String content, String module, Long ownerId) {
 
-        if (content == null || content.isBlank()) return content;
+        if (content == null || content.isBlank()) {
+            return new EditorContent(content, extractImages(content));
+        }
 
-        List<String> tmpPaths = extractTmpEditorImagePaths(content, module);
+        if (ownerId == null || ownerId <= 0) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 ID"); // ownerId 검증
+        }
 
-        String updated = content;
+        String dirName = editorDir(module);
+        Pattern tmpPath = tmpPathPattern(dirName);
 
-        for (String tmpPath : tmpPaths) {
-            String finalPath = moveTmpToOwnerDir(tmpPath, module, ownerId); // tmp → ownerDir 이동
-            updated = updated.replace(tmpPath, finalPath); // URL 치환
+        List<FileMove> moves = new ArrayList<>();
+        Map<String, String> moved = new HashMap<>(); // tmp 경로 → 확정 경로 (같은 이미지 중복 이동 방지)
+        List<String> images = new ArrayList<>();
+        StringBuilder out = new StringBuilder(content.length() + 64);
+
+        Matcher m = editorContentPattern(dirName).matcher(content);
+        int last = 0;
+
+        while (m.find()) {
+            if (m.group(2) != null) {
+                // <img ... src="..."> : src 안의 tmp 경로 치환 후 최종 src 기록
+                String src = rewriteTmpPaths(m.group(2), tmpPath, moved, dirName, ownerId, moves);
+                images.add(src);
+                out.append(content, last, m.start(2)).append(src);
+            } else {
+                // img 밖의 tmp 경로 (호스트 부분은 그대로 두고 경로만 치환)
+                String finalPath = moved.computeIfAbsent(m.group(3), p -> planTmpMove(p, dirName, ownerId, moves));
+                out.append(content, last, m.start(3)).append(finalPath);
+            }
+            last = m.end() - (m.group(2) != null ? 1 : 0); // img는 닫는 따옴표부터 다시 이어 붙임
         }
+        out.append(content, last, content.length());
+
+        fileMoveExecutor.moveAll(moves);
+
+        return new EditorContent(out.toString(), images);
+    }
 
-        // 이제 필요 없을듯 커스텀해서 써서
-        // 유튜브 iframe 태그 감싼 a 태그 제거
-        // updated = normalizeQuillHtml(updated);
+    // src 값 안의 tmp 경로만 확정 경로로 치환 (src는 짧으므로 별도 Matcher로 처리)
+    private String rewriteTmpPaths(String src, Pattern tmpPath, Map<String, String> moved,
+                                   String dirName, Long ownerId, List<FileMove> moves) {
+        Matcher m = tmpPath.matcher(src);
+        if (!m.find()) return src;
+
+        StringBuilder sb = new StringBuilder(src.length());
+        int last = 0;
+        do {
+            String finalPath = moved.computeIfAbsent(m.group(1), p -> planTmpMove(p, dirName, ownerId, moves));
+            sb.append(src, last, m.start(1)).append(finalPath);
+            last = m.end(1);
+        } while (m.find());
+        return sb.append(src, last, src.length()).toString();
+    }
 
-        return updated;
+    // module별 tmp 이미지 경로 패턴 (group 1 = /uploads/{module}/tmp/...)
+    private Pattern tmpPathPattern(String dirName) {
+        return tmpPathPatterns.computeIfAbsent(dirName, d -> Pattern.compile(
+                "(?:https?://[^\"']+)?(/uploads/" + Pattern.quote(d) + "/tmp/[^\"'\\s>]+)",
+                Pattern.CASE_INSENSITIVE
+        ));
+    }
+
+    // module별 본문 처리 패턴: <img ... src="(group 2)"  또는  img 밖 tmp 경로 (group 3)
+    // 앞쪽 위치부터 찾으므로 img 태그 안의 tmp 경로는 항상 img 쪽으로 먼저 잡힘
+    private Pattern editorContentPattern(String dirName) {
+        return editorContentPatterns.computeIfAbsent(dirName, d -> Pattern.compile(
+                "(<img[^>]+src\\s*=\\s*\")([^\"]+)\""
+                + "|(?i:(?:https?://[^\"']+)?(/uploads/" + Pattern.quote(d) + "/tmp/[^\"'\\s>]+))"
+        ));
     }
     
  // 이미지 삭제 (수정할때 저장 시에 삭제)
@@ -189,27 +262,7 @@ public class FileStorageService {
         if (url == null || url.isBlank()) return;
 
         try {
-            // URL -> 서버 상대 경로 추출
-            // 예: https://domain.com/uploads/tasks/abc.png
-            String decodedUrl = java.net.URLDecoder.decode(url, StandardCharsets.UTF_8);
-
-            // query string 제거 (?v=123 같은 캐시 대응)
-            String cleanUrl = decodedUrl.split("\\?")[0];
-
-            String prefix = "/uploads/" + module + "/";
-
-            int idx = cleanUrl.indexOf(prefix);
-            if (idx < 0) {
-                throw new ApiException(ErrorCode.INTERNAL_ERROR, "잘못된 이미지 경로: " + url);
-            }
-
-            String relativePath = cleanUrl.substring(idx + "/uploads/".length());
-
-            if (!Files.exists(root)) {
-                Files.createDirectories(root);
-            }
-
-            Path path = root.resolve(relativePath).normalize();
+            Path path = editorImagePath(url, module);
 
             System.out.println("삭제 대상: " + path.toAbsolutePath());
 
@@ -221,10 +274,43 @@ public class FileStorageService {
             throw new ApiException(ErrorCode.INTERNAL_ERROR, "이미지 삭제 실패: " + url);
         }
     }
+
+    // 이미지 URL → 실제 파일 경로
+    private Path editorImagePath(String url, String module) throws IOException {
+
+        // URL -> 서버 상대 경로 추출
+        // 예: https://domain.com/uploads/tasks/abc.png
+        String decodedUrl = java.net.URLDecoder.decode(url, StandardCharsets.UTF_8);
+
+        // query string 제거 (?v=123 같은 캐시 대응)
+        String cleanUrl = decodedUrl.split("\\?")[0];
+
+        String prefix = "/uploads/" + module + "/";
+
+        int idx = cleanUrl.indexOf(prefix);
+        if (idx < 0) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "잘못된 이미지 경로: " + url);
+        }
+
+        String relativePath = cleanUrl.substring(idx + "/uploads/".length());
+
+        if (!Files.exists(root)) {
+            Files.createDirectories(root);
+        }
+
+        Path path = root.resolve(relativePath).normalize();
+
+        // 안전장치: root 밖 삭제 방지
+        if (!path.startsWith(root)) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
+        }
+
+        return path;
+    }
     
     
  // 이미지 수정 시 삭제 (old - new diff)
-    public void deleteEditorImages(List<String> oldImages, List<String> newImages, String module) {
+    public void deleteEditorImages(List<String> oldImages, Collection<String> newImages, String module) {
 
         if (oldImages == null || oldImages.isEmpty()) return;
 
@@ -232,14 +318,25 @@ public class FileStorageService {
                 newImages == null ? List.of() : newImages
         );
 
-        for (String oldUrl : oldImages) {
+        List<Path> removed = new ArrayList<>();
 
-            if (oldUrl == null || oldUrl.isBlank()) continue;
+        try {
+            for (String oldUrl : oldImages) {
+
+                if (oldUrl == null || oldUrl.isBlank()) continue;
 
-            if (!newImageSet.contains(oldUrl)) {
-                deleteEditorImage(oldUrl, module);
+                if (!newImageSet.contains(oldUrl)) {
+                    Path original = editorImagePath(oldUrl, module);
+                    removed.add(original);
+                    for (ImageVariant v : ImageVariant.values()) removed.add(v.pathFor(original)); // 축소본도 같이
+                }
             }
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "이미지 삭제 실패");
         }
+
+        // 실제 삭제는 커밋 후 (롤백되면 옛 본문이 그대로 이미지를 참조하므로)
+        fileMoveExecutor.deleteAfterCommit(removed);
     }
     
     public List<String> extractImages(String html) {
@@ -248,8 +345,7 @@ public class FileStorageService {
 
         List<String> images = new ArrayList<>();
 
-        Pattern pattern = Pattern.compile("<img[^>]+src\\s*=\\s*\"([^\"]+)\"");
-        Matcher matcher = pattern.matcher(html);
+        Matcher matcher = IMG_SRC.matcher(html);
 
         while (matcher.find()) {
             images.add(matcher.group(1));
@@ -311,28 +407,141 @@ public class FileStorageService {
         return p; // 실제 경로 반환
     }
 
-    // 첨부파일 최종 저장: /uploads/{module}/{taskId}/attachments/{uuid}_{original}
-    public StoredAttachment storeTaskAttachmentToTaskDir(MultipartFile file, String module, Long taskId) {
+    // 첨부파일 개별 용량 제한 20MB
+    public static final long MAX_ATTACHMENT_BYTES = 20L * 1024 * 1024;
 
-        // module은 "tasks"로 들어올 예정 (에디터 이미지랑 동일 모듈 톤)
-        String dirName = editorDir(module);
+    // 첨부파일 blob 폴더 (내용 해시 기준 저장, 여러 첨부 row가 같은 파일을 공유)
+    // /uploads/blobs/{sha256 앞 2글자}/{sha256}
+    private static final String BLOB_DIR = "blobs";
 
-        if (taskId == null || taskId <= 0) {
-            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 taskId"); // taskId 검증
-        }
+    // blob 저장 경로 접두어 (정적 리소스로 공개하지 않음, 다운로드는 /api/attachments/{id}/download로만)
+    public static final String BLOB_PATH_PREFIX = "/uploads/" + BLOB_DIR + "/";
+
+    // 첨부파일 임시 저장 (multipart)
+    public StagedBlob stageTaskAttachment(MultipartFile file) {
 
         if (file == null || file.isEmpty()) {
             throw new ApiException(ErrorCode.BAD_REQUEST, "파일이 비었습니다."); // 파일 필수
         }
 
         // 개별 용량 제한 20MB
-        long maxFileBytes = 20L * 1024 * 1024;
-        if (file.getSize() > maxFileBytes) {
+        if (file.getSize() > MAX_ATTACHMENT_BYTES) {
             throw new ApiException(ErrorCode.BAD_REQUEST, "파일은 개별 20MB 이하만 가능합니다."); // 용량 체크
         }
 
+        try (InputStream in = file.getInputStream()) {
+            return stageTaskAttachment(in, file.getOriginalFilename(), file.getContentType(), MAX_ATTACHMENT_BYTES);
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "첨부 저장 실패"); // IO 오류
+        }
+    }
+
+    // 첨부파일 임시 저장 (요청 본문 InputStream → blobs/tmp에 한 번만 기록)
+    // 저장하면서 SHA-256 계산, 최종 위치(내용 해시 경로)는 promoteBlob에서 rename으로 확정
+    // maxBytes: 이번 파일에 허용되는 최대 크기 (넘으면 쓰던 파일 삭제 후 400)
+    public StagedBlob stageTaskAttachment(InputStream in, String originalFilename, String contentType, long maxBytes) {
+
+        String safeOriginal = safeAttachmentName(originalFilename);
+
+        try {
+            Path stageDir = root.resolve(Paths.get(BLOB_DIR, "tmp")).normalize();
+            Files.createDirectories(stageDir);
+
+            Path staged = stageDir.resolve(UUID.randomUUID().toString()).normalize();
+
+            WrittenFile written = writeOnce(in, staged, maxBytes, "파일은 개별 20MB 이하만 가능합니다.");
+
+            if (written.sizeBytes() == 0) {
+                Files.deleteIfExists(staged);
+                throw new ApiException(ErrorCode.BAD_REQUEST, "파일이 비었습니다."); // 파일 필수
+            }
+
+            return new StagedBlob(staged, safeOriginal, contentType, written.sizeBytes(), written.sha256());
+
+        } catch (IOException e) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "첨부 저장 실패"); // IO 오류
+        }
+    }
+
+    // blob 저장 경로 (DB 저장용): /uploads/blobs/{ab}/{sha256}
+    public String blobStoragePath(String sha256) {
+        return BLOB_PATH_PREFIX + sha256.substring(0, 2) + "/" + sha256;
+    }
+
+    // blob 저장 경로 → 저장소 key ("/uploads/blobs/ab/..." → "blobs/ab/...")
+    private String blobKey(String storagePath) {
+        return storagePath.substring("/uploads/".length());
+    }
+
+    // storagePath가 blob 경로인지 (이전 방식 /uploads/tasks/{taskId}/attachments/... 와 구분)
+    public boolean isBlobStoragePath(String storagePath) {
+        return storagePath != null && storagePath.startsWith(BLOB_PATH_PREFIX);
+    }
+
+    // 임시 파일 → blob 저장소로 확정
+    // 같은 내용의 blob이 이미 있으면 임시 파일만 삭제 (저장소에는 한 벌만 유지)
+    public StoredAttachment promoteBlob(StagedBlob staged) {
+
+        String storagePath = blobStoragePath(staged.sha256());
+        String key = blobKey(storagePath);
+
+        try {
+            if (!blobStore.exists(key)) {
+                blobStore.put(key, staged.path(), staged.sizeBytes(), staged.contentType());
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "첨부 저장 실패"); // IO/스토리지 오류
+        } finally {
+            discardStaged(staged); // 로컬은 이미 rename 되어 없음, 중복/원격은 여기서 삭제
+        }
+
+        return new StoredAttachment(
+            staged.originalFilename(),
+            staged.sha256(),
+            staged.contentType(),
+            staged.sizeBytes(),
+            storagePath,
+            staged.sha256()
+        );
+    }
+
+    // 확정하지 않을 임시 파일 삭제 (실패해도 UploadCleanupScheduler가 나중에 정리)
+    public void discardStaged(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(staged.path());
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 저장 파일 삭제 (/uploads/... 경로, blob은 저장소에서 삭제)
+    public void deleteStoredFile(String storagePath) throws IOException {
+        if (isBlobStoragePath(storagePath)) {
+            blobStore.delete(blobKey(storagePath));
+            return;
+        }
+        Files.deleteIfExists(resolveUploadPath(storagePath));
+    }
+
+    // 첨부 다운로드용 로컬 파일 경로 (FileDownloadUtil로 직접 전송, Range/zero-copy)
+    // - blob: 저장소가 로컬 디스크일 때만 (원격 저장소는 empty → 서명 URL 사용)
+    // - 이전 방식(업무 폴더) 파일: app.upload-dir 아래 경로
+    public Optional<Path> localDownloadPath(String storagePath) {
+        if (isBlobStoragePath(storagePath)) {
+            return blobStore.localFile(blobKey(storagePath));
+        }
+        return Optional.of(resolveUploadPath(storagePath));
+    }
+
+    // 첨부 다운로드용 서명 URL (원격 blob 저장소일 때만, 이전 방식 업무 폴더 파일은 없음)
+    public Optional<String> presignedDownloadUrl(String storagePath, String filename, String contentType) {
+        if (!isBlobStoragePath(storagePath)) return Optional.empty();
+        return blobStore.presignedDownloadUrl(blobKey(storagePath), filename, contentType);
+    }
+
+    // 첨부 원본 파일명 검사 + 정리 (확장자 허용 목록, 경로/제어 문자 제거, 길이 제한)
+    private String safeAttachmentName(String original) {
+
         // 확장자 검사 (프론트 정책과 맞춤)
-        String original = file.getOriginalFilename();
         String ext = "";
         if (original != null) {
             int idx = original.lastIndexOf('.');
@@ -359,37 +568,48 @@ public class FileStorageService {
         // 너무 길면 뒤쪽만 남김(확장자 유지)
         if (safeOriginal.length() > 120) safeOriginal = safeOriginal.substring(safeOriginal.length() - 120);
 
-        try {
-            String storedName = UUID.randomUUID() + "_" + safeOriginal;
-
-            // 최종 폴더: {uploadDir}/{module}/{taskId}/attachments/
-            Path attachDir = root.resolve(Paths.get(dirName, String.valueOf(taskId), "attachments")).normalize();
-            Files.createDirectories(attachDir);
-
-            Path target = attachDir.resolve(storedName).normalize();
-
-            // 안전장치
-            if (!target.startsWith(attachDir)) {
-                throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
-            }
+        return safeOriginal;
+    }
 
-            try (InputStream in = file.getInputStream()) {
-                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING); // 파일 저장
+    // 스트림을 target에 한 번만 기록
+    // 같은 폴더의 .part 파일에 쓰면서 크기/SHA-256 계산 → 끝나면 rename (복사 없음)
+    // 중간에 실패하거나 maxBytes를 넘으면 .part 삭제 (반쯤 쓴 파일이 남지 않음)
+    private WrittenFile writeOnce(InputStream in, Path target, long maxBytes, String tooLargeMessage) throws IOException {
+
+        Path part = target.resolveSibling(target.getFileName() + ".part");
+        MessageDigest sha256 = sha256();
+
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(part,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                total += n;
+                if (total > maxBytes) {
+                    throw new ApiException(ErrorCode.BAD_REQUEST, tooLargeMessage); // 용량 초과 → 즉시 중단
+                }
+                sha256.update(buffer, 0, n);
+                out.write(buffer, 0, n);
             }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
 
-            // DB에 저장할 경로: /uploads/{module}/{taskId}/attachments/{storedName}
-            String storagePath = "/uploads/" + dirName + "/" + taskId + "/attachments/" + storedName;
-
-            return new StoredAttachment(
-                safeOriginal,
-                storedName,
-                file.getContentType(),
-                file.getSize(),
-                storagePath
-            );
+        Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        return new WrittenFile(total, Hex.encodeHexString(sha256.digest()));
+    }
 
-        } catch (IOException e) {
-            throw new ApiException(ErrorCode.INTERNAL_ERROR, "첨부 저장 실패"); // IO 오류
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JDK에 포함된 알고리즘
         }
     }
+
+    // writeOnce 결과: 기록한 바이트 수 + SHA-256(hex)
+    private record WrittenFile(long sizeBytes, String sha256) {}
 }
@@ -0,0 +1,70 @@
+package com.workflow.common.file;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+// 로컬 디스크 blob 저장소 (기본값)
+// app.upload-dir/{key} 에 저장, 단일 노드 또는 공유 볼륨 환경용
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalBlobStore(@Value("${app.upload-dir}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void put(String key, Path source, long sizeBytes, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE); // 같은 파일시스템 → rename
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용이 먼저 저장된 경우 (내용 해시 key라 그대로 사용)
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localFile(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    @Override
+    public Optional<String> presignedDownloadUrl(String key, String filename, String contentType) {
+        return Optional.empty(); // 로컬은 백엔드에서 직접 전송 (Range/ETag 지원)
+    }
+
+    private Path resolve(String key) {
+        Path p = root.resolve(key).normalize();
+
+        // 안전장치: root 밖으로 못 나가게
+        if (!p.startsWith(root)) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
+        }
+        return p;
+    }
+}
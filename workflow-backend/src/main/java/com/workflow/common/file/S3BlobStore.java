@@ -0,0 +1,191 @@
+package com.workflow.common.file;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// S3 호환 blob 저장소 (AWS S3, MinIO 등)
+// 백엔드 노드 여러 대가 같은 버킷을 공유하므로 로드밸런서 뒤 수평 확장 가능
+// 다운로드는 서명 URL 리다이렉트 → 파일 바이트가 JVM을 거치지 않음
+// 로컬 확인: MinIO 실행 후 app.storage.s3.endpoint=http://localhost:9000, path-style=true
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    // S3 multipart 최소 part 크기 (마지막 part 제외)
+    private static final long MIN_PART_BYTES = 5L * 1024 * 1024;
+
+    private final S3Client s3;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final long partBytes;
+    private final Duration presignTtl;
+
+    public S3BlobStore(@Value("${app.storage.s3.endpoint:}") String endpoint,
+                       @Value("${app.storage.s3.region:ap-northeast-2}") String region,
+                       @Value("${app.storage.s3.bucket}") String bucket,
+                       @Value("${app.storage.s3.access-key}") String accessKey,
+                       @Value("${app.storage.s3.secret-key}") String secretKey,
+                       @Value("${app.storage.s3.path-style:false}") boolean pathStyle,
+                       @Value("${app.storage.s3.part-size-mb:8}") long partSizeMb,
+                       @Value("${app.storage.s3.presign-ttl-seconds:300}") long presignTtlSeconds) {
+
+        StaticCredentialsProvider credentials =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        S3Configuration s3Config = S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyle) // MinIO는 path-style
+                .build();
+
+        var clientBuilder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Config);
+        var presignerBuilder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .serviceConfiguration(s3Config);
+
+        if (endpoint != null && !endpoint.isBlank()) {
+            clientBuilder.endpointOverride(URI.create(endpoint));
+            presignerBuilder.endpointOverride(URI.create(endpoint));
+        }
+
+        this.s3 = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        this.bucket = bucket;
+        this.partBytes = Math.max(MIN_PART_BYTES, partSizeMb * 1024 * 1024);
+        this.presignTtl = Duration.ofSeconds(presignTtlSeconds);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            s3.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return false; // HEAD 404는 NoSuchKey로 안 올 수 있음
+            throw new IOException("blob 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void put(String key, Path source, long sizeBytes, String contentType) throws IOException {
+        String ct = (contentType == null || contentType.isBlank()) ? "application/octet-stream" : contentType;
+
+        try {
+            if (sizeBytes <= partBytes) {
+                s3.putObject(b -> b.bucket(bucket).key(key).contentType(ct).contentLength(sizeBytes),
+                        RequestBody.fromFile(source));
+            } else {
+                putMultipart(key, source, sizeBytes, ct);
+            }
+        } catch (S3Exception e) {
+            throw new IOException("blob 업로드 실패: " + key, e);
+        }
+    }
+
+    // 큰 파일은 part 단위로 나눠 업로드 (part 하나 실패 시 재시도 단위가 작고, 전체 업로드는 abort로 정리)
+    private void putMultipart(String key, Path source, long sizeBytes, String contentType) throws IOException {
+
+        String uploadId = s3.createMultipartUpload(b -> b.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            List<CompletedPart> parts = new ArrayList<>();
+            ByteBuffer buffer = ByteBuffer.allocate((int) partBytes);
+
+            long position = 0;
+            int partNumber = 1;
+            while (position < sizeBytes) {
+                buffer.clear();
+                buffer.limit((int) Math.min(partBytes, sizeBytes - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) break;
+                }
+                buffer.flip();
+                int length = buffer.remaining();
+
+                int n = partNumber;
+                String etag = s3.uploadPart(
+                        b -> b.bucket(bucket).key(key).uploadId(uploadId).partNumber(n).contentLength((long) length),
+                        RequestBody.fromByteBuffer(buffer)).eTag();
+                parts.add(CompletedPart.builder().partNumber(n).eTag(etag).build());
+
+                position += length;
+                partNumber++;
+            }
+
+            s3.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(parts)));
+
+        } catch (IOException | RuntimeException e) {
+            s3.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(b -> b.bucket(bucket).key(key));
+        } catch (S3Exception e) {
+            throw new IOException("blob 삭제 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<Path> localFile(String key) {
+        return Optional.empty();
+    }
+
+    // 서명 URL 생성 (네트워크 호출 없이 로컬 계산)
+    // 다운로드 파일명/MIME은 응답 헤더 override로 지정 (blob은 내용 기준 공유라 첨부마다 이름이 다를 수 있음)
+    @Override
+    public Optional<String> presignedDownloadUrl(String key, String filename, String contentType) {
+        String disposition = ContentDisposition.attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build()
+                .toString();
+
+        return Optional.of(presigner.presignGetObject(p -> p
+                .signatureDuration(presignTtl)
+                .getObjectRequest(g -> g.bucket(bucket).key(key)
+                        .responseContentDisposition(disposition)
+                        .responseContentType(contentType)))
+                .url()
+                .toString());
+    }
+
+    @PreDestroy
+    void close() {
+        presigner.close();
+        s3.close();
+    }
+}
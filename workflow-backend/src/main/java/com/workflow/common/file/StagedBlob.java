@@ -0,0 +1,13 @@
+package com.workflow.common.file;
+
+import java.nio.file.Path;
+
+// 첨부파일 임시 저장 결과 (blobs/tmp에 기록만 된 상태)
+// 내용 해시로 blob 참조를 등록한 뒤 FileStorageService.promoteBlob으로 최종 위치 확정
+public record StagedBlob(
+        Path path,               // 임시 파일 실제 경로
+        String originalFilename, // 정리된 원본 파일명
+        String contentType,      // MIME 타입
+        long sizeBytes,          // 파일 용량(bytes)
+        String sha256            // 파일 내용 SHA-256 (hex)
+) {}
@@ -0,0 +1,43 @@
+package com.workflow.common.upload;
+
+import java.nio.file.Path;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+// 에디터 이미지 축소본 종류 (최대 가로 px)
+// 저장 위치: {원본 폴더}/_variants/{이름}/{원본 파일명} (원본과 같은 형식)
+public enum ImageVariant {
+
+    THUMB("thumb", 320),
+    MEDIUM("medium", 1024);
+
+    private final String key;
+    private final int maxWidth;
+
+    ImageVariant(String key, int maxWidth) {
+        this.key = key;
+        this.maxWidth = maxWidth;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    // 원본 파일 경로 → 축소본 파일 경로
+    public Path pathFor(Path original) {
+        return original.resolveSibling("_variants").resolve(key).resolve(original.getFileName());
+    }
+
+    // URL 경로 값 → enum (thumb / medium)
+    public static ImageVariant from(String key) {
+        for (ImageVariant v : values()) {
+            if (v.key.equalsIgnoreCase(key)) return v;
+        }
+        throw new ApiException(ErrorCode.BAD_REQUEST, "지원하지 않는 이미지 크기입니다: " + key);
+    }
+}
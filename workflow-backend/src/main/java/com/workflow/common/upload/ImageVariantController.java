@@ -0,0 +1,42 @@
+package com.workflow.common.upload;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+// 에디터 이미지 축소본 제공
+// /images/{module}/{ownerId}/{thumb|medium}/{파일명} → 축소본 (없으면 생성 후 캐시, 축소 불가면 원본)
+// /uploads/** 와 같이 로그인 없이 접근 가능 (본문 <img>에서 바로 사용)
+// 에디터 module 폴더의 이미지 파일만 제공 (첨부 blob 등은 ImageVariantService.resolve에서 거부)
+@RestController
+@RequiredArgsConstructor
+public class ImageVariantController {
+
+    private final ImageVariantService imageVariantService;
+
+    @GetMapping("/images/{module}/{ownerId}/{variant}/{fileName:.+}")
+    public ResponseEntity<Resource> variant(@PathVariable("module") String module,
+                                            @PathVariable("ownerId") Long ownerId,
+                                            @PathVariable("variant") String variant,
+                                            @PathVariable("fileName") String fileName) {
+
+        Path file = imageVariantService.resolve(module, ownerId, fileName, ImageVariant.from(variant));
+
+        // 파일명이 UUID라 내용이 바뀌지 않음 → 브라우저/프록시 장기 캐시
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,292 @@
+package com.workflow.common.upload;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+import com.workflow.common.file.FileStorageService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 에디터 이미지 축소본(썸네일/중간 크기) 생성
+// - 업무 저장 커밋 후 백그라운드 풀에서 미리 생성 (대기열이 차면 버리고 요청 시 생성)
+// - 요청 시 축소본이 없으면 그 자리에서 생성 후 디스크에 캐시 (같은 파일 동시 요청은 한 번만 생성)
+// - JPEG/PNG만 축소 (JDK ImageIO 기준), GIF(애니메이션)/WebP나 이미 작은 이미지는 원본 그대로 사용
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // 압축 해제 폭탄 방지 (가로 × 세로 픽셀 상한)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private static final Set<String> RESIZABLE = Set.of("jpg", "jpeg", "png");
+
+    // 제공 가능한 이미지 확장자 (에디터 업로드 허용 형식과 같음), 그 외 파일은 원본이라도 내주지 않음
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp");
+
+    private final Path root;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    // 생성 중인 축소본 (같은 파일 동시 요청 시 한 번만 생성)
+    private final Map<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    // module별 본문 이미지 URL 패턴 캐시
+    private final Map<String, Pattern> imageUrlPatterns = new ConcurrentHashMap<>();
+
+    public ImageVariantService(@Value("${app.upload-dir}") String uploadDir,
+                               @Value("${app.image-variant.jpeg-quality:0.82}") float jpegQuality,
+                               @Value("${app.image-variant.pool-size:2}") int poolSize,
+                               @Value("${app.image-variant.queue-capacity:500}") int queueCapacity) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.jpegQuality = jpegQuality;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 대기열 상한
+                r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()   // 가득 차면 버림 (요청 시 생성으로 대체)
+        );
+    }
+
+    // 본문 이미지들의 축소본을 커밋 후 백그라운드에서 생성
+    // imageUrls: 본문 <img> src 목록 (/uploads/{module}/{ownerId}/{파일명} 형태만 대상)
+    public void generateAfterCommit(List<String> imageUrls, String module) {
+
+        if (imageUrls == null || imageUrls.isEmpty()) return;
+
+        if (!FileStorageService.EDITOR_MODULES.contains(module)) return;
+
+        Pattern p = imageUrlPatterns.computeIfAbsent(module,
+                m -> Pattern.compile("/uploads/" + Pattern.quote(m) + "/(\\d+)/([A-Za-z0-9._-]+)$"));
+        List<Path> originals = imageUrls.stream()
+                .map(p::matcher)
+                .filter(Matcher::find)
+                .map(m -> root.resolve(Paths.get(module, m.group(1), m.group(2))).normalize())
+                .filter(path -> path.startsWith(root))
+                .distinct()
+                .toList();
+
+        if (originals.isEmpty()) return;
+
+        Runnable submit = () -> {
+            for (Path original : originals) {
+                for (ImageVariant v : ImageVariant.values()) {
+                    executor.execute(() -> {
+                        try {
+                            variantFile(original, v);
+                        } catch (RuntimeException e) {
+                            log.warn("이미지 축소본 생성 실패: {} ({})", original, v.key(), e);
+                        }
+                    });
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+            return;
+        }
+
+        submit.run();
+    }
+
+    // 축소본 파일 경로 (없으면 생성), 축소할 수 없는 이미지면 원본 경로
+    // 로그인 없이 열리는 경로이므로 에디터 module 폴더의 이미지 파일만 허용 (blobs 등 첨부 저장소 차단)
+    public Path resolve(String module, Long ownerId, String fileName, ImageVariant variant) {
+
+        if (module == null || !FileStorageService.EDITOR_MODULES.contains(module)
+                || ownerId == null || ownerId <= 0
+                || fileName == null || !fileName.matches("^[A-Za-z0-9._-]+$")) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
+        }
+
+        Path original = root.resolve(Paths.get(module, String.valueOf(ownerId), fileName)).normalize();
+
+        if (!IMAGE_EXTENSIONS.contains(extension(original))) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "이미지 파일이 아닙니다.");
+        }
+
+        // 안전장치: root 밖으로 못 나가게
+        if (!original.startsWith(root)) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 파일 경로");
+        }
+
+        if (!Files.isRegularFile(original)) {
+            throw new ApiException(ErrorCode.NOT_FOUND, "이미지가 없습니다.");
+        }
+
+        return variantFile(original, variant);
+    }
+
+    // 디스크 캐시 확인 → 없으면 생성 (동시 요청은 같은 future 대기)
+    private Path variantFile(Path original, ImageVariant variant) {
+
+        Path target = variant.pathFor(original);
+        if (Files.exists(target)) return target;
+
+        String ext = extension(original);
+        if (!RESIZABLE.contains(ext)) return original;
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(target, mine);
+        if (running != null) return running.join();
+
+        try {
+            Path result = generate(original, target, variant, ext);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(target, mine);
+        }
+    }
+
+    // 축소본 생성 (원본이 이미 작으면 원본 복사본을 캐시해서 다음부터 디코딩 생략)
+    private Path generate(Path original, Path target, ImageVariant variant, String ext) {
+
+        try {
+            BufferedImage src = readBounded(original);
+            if (src == null) return original; // 읽을 수 없는 형식
+
+            Files.createDirectories(target.getParent());
+            Path part = target.resolveSibling(target.getFileName() + ".part");
+            try {
+                if (src.getWidth() <= variant.maxWidth()) {
+                    Files.copy(original, part, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    int width = variant.maxWidth();
+                    int height = Math.max(1, (int) Math.round((double) src.getHeight() * width / src.getWidth()));
+                    write(scale(src, width, height, "png".equals(ext)), part, "png".equals(ext) ? "png" : "jpeg");
+                }
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(part);
+            }
+            return target;
+
+        } catch (IOException e) {
+            log.warn("이미지 축소본 생성 실패: {}", original, e);
+            return original; // 축소 실패 시 원본으로 대체
+        }
+    }
+
+    // 크기(헤더)부터 확인하고 상한 이하일 때만 디코딩
+    private BufferedImage readBounded(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) return null;
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 반씩 줄여가며 축소 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+    private BufferedImage scale(BufferedImage src, int width, int height, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = src;
+        int w = src.getWidth();
+        int h = src.getHeight();
+
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != width || h != height);
+
+        return current;
+    }
+
+    private void write(BufferedImage image, Path target, String format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        int idx = name.lastIndexOf('.');
+        return idx < 0 ? "" : name.substring(idx + 1).toLowerCase();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -22,7 +22,8 @@ public class UploadCleanupScheduler {
 
     // 청소 대상 모듈 추가 가능, 필요 시 "profile" 등 더 넣으면 됨
     private static final List<String> MODULES = List.of(
-            "tasks"
+            "tasks",
+            "blobs" // 첨부 임시 저장 (blobs/tmp)
     );
 
     public UploadCleanupScheduler(
@@ -12,17 +12,20 @@ public class CookieUtil {
 
     // HttpOnly 쿠키 생성
     public static void addHttpOnlyCookie(HttpServletResponse res, String name, String value, int maxMin) {
+        // 응답 헤더에 Set-Cookie 추가
+        res.addHeader("Set-Cookie", httpOnlyCookie(name, value, maxMin).toString());
+    }
+
+    // HttpOnly 쿠키 값만 생성 (비동기 응답처럼 ResponseEntity 헤더로 내려줄 때)
+    public static ResponseCookie httpOnlyCookie(String name, String value, int maxMin) {
         // ResponseCookie 사용 → 더 안전하게 쿠키 옵션 지정 가능
-        ResponseCookie cookie = ResponseCookie.from(name, value)
+        return ResponseCookie.from(name, value)
                 .httpOnly(true)      // JS에서 접근 불가 → XSS 공격 방어
                 .secure(true)       // HTTPS 환경이면 true로 변경 필요
                 .sameSite("Lax")     // CSRF 공격 방어
                 .path("/")           // 모든 경로에서 접근 가능
                 .maxAge(maxMin * 60L) // 만료 시간: 분 단위 → 초 단위로 변환
                 .build();
-
-        // 응답 헤더에 Set-Cookie 추가
-        res.addHeader("Set-Cookie", cookie.toString());
     }
 
     // 쿠키 삭제
@@ -0,0 +1,133 @@
+package com.workflow.common.util;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 파일 다운로드 응답 유틸
+// - 조건부 GET: If-None-Match / If-Modified-Since → 304 (If-Match / If-Unmodified-Since 불일치 → 412)
+// - 이어받기: Range (단일 구간) → 206 Partial Content, If-Range 불일치면 전체 200
+// - 본문 전송: FileChannel.transferTo로 필요한 구간만 응답 스트림에 직접 전송 (힙 버퍼 복사 없음)
+public class FileDownloadUtil {
+
+    private FileDownloadUtil() {} // 유틸 클래스이므로 인스턴스화 방지
+
+    public static void write(HttpServletRequest req, HttpServletResponse res,
+                             Path file, String filename, String contentType,
+                             String etag, long lastModified) throws IOException {
+
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            // 파일이 존재하지 않으면 404 반환
+            res.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        // 조건부 요청 처리 (304/412면 상태/헤더 세팅 후 바로 종료)
+        if (new ServletWebRequest(req, res).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long length = Files.size(file);
+
+        res.setHeader(HttpHeaders.ETAG, etag);
+        res.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 권한 확인이 필요한 파일이므로 공유 캐시 금지, 브라우저는 매번 ETag로 재검증 (변경 없으면 304)
+        res.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        res.setContentType(contentType);
+        res.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition
+                .attachment()
+                .filename(filename, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        long start = 0;
+        long end = length - 1;
+
+        HttpRange range = requestedRange(req, etag, lastModified);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                start = length; // 아래에서 416 처리
+            }
+
+            // 파일 범위를 벗어난 요청 → 416
+            if (start >= length || start > end) {
+                res.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+
+            res.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        res.setContentLengthLong(count);
+
+        // HEAD는 헤더만
+        if ("HEAD".equalsIgnoreCase(req.getMethod()) || count == 0) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(res.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            // 다운로드 중 클라이언트가 연결을 끊은 경우 (이어받기로 재요청 가능) → 응답은 이미 커밋됨
+        }
+    }
+
+    // 처리할 Range 구간 (없거나, 여러 구간이거나, 형식 오류거나, If-Range 불일치면 null → 전체 전송)
+    private static HttpRange requestedRange(HttpServletRequest req, String etag, long lastModified) {
+
+        String rangeHeader = req.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank()) return null;
+
+        // If-Range: 클라이언트가 가진 조각이 현재 파일과 같은 버전일 때만 이어받기 허용
+        String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.isBlank()) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(etag)) return null; // 강한 비교 (약한 ETag는 불일치)
+            } else {
+                try {
+                    long since = req.getDateHeader(HttpHeaders.IF_RANGE);
+                    if (since / 1000 != lastModified / 1000) return null;
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null; // 다중 구간은 지원하지 않고 전체 전송
+        } catch (IllegalArgumentException e) {
+            return null; // 형식이 잘못된 Range는 무시
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.workflow.common.util;
+
+import java.util.regex.Pattern;
+
+// 에디터 HTML → 목록 미리보기용 평문 변환 유틸
+public class HtmlTextUtil {
+
+    private HtmlTextUtil() {} // 유틸 클래스이므로 인스턴스화 방지
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern UNCLOSED_TAG = Pattern.compile("<[^>]*$"); // 잘린 HTML 끝의 닫히지 않은 태그
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 태그 제거 + 자주 쓰는 엔티티 복원 + 공백 정리 후 maxLength까지 자르기
+    public static String excerpt(String html, int maxLength) {
+        if (html == null || html.isEmpty()) return "";
+
+        String text = TAG.matcher(html).replaceAll(" ");
+        text = UNCLOSED_TAG.matcher(text).replaceAll("");
+        text = text.replace("&nbsp;", " ")
+                   .replace("&lt;", "<")
+                   .replace("&gt;", ">")
+                   .replace("&quot;", "\"")
+                   .replace("&#39;", "'")
+                   .replace("&amp;", "&"); // &amp;는 마지막에 (이중 복원 방지)
+        text = WHITESPACE.matcher(text).replaceAll(" ").trim();
+
+        if (text.length() <= maxLength) return text;
+
+        // 이모지 등 surrogate pair 중간에서 자르지 않음 (반쪽 문자는 DB에 저장할 수 없음)
+        int end = Character.isHighSurrogate(text.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        return text.substring(0, end);
+    }
+}
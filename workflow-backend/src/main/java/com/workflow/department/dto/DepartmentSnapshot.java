@@ -0,0 +1,15 @@
+package com.workflow.department.dto;
+
+import com.workflow.department.entity.DepartmentEntity;
+
+// 부서 캐시용 불변 스냅샷 (영속성 컨텍스트와 무관하게 여러 요청에서 공유)
+public record DepartmentSnapshot(
+        Long id,      // 부서 ID
+        String name,  // 부서명
+        String code   // 부서 코드
+) {
+
+    public static DepartmentSnapshot from(DepartmentEntity d) {
+        return new DepartmentSnapshot(d.getId(), d.getName(), d.getCode());
+    }
+}
@@ -0,0 +1,10 @@
+package com.workflow.favorite.dto;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 즐겨찾기 표시 DTO
+// - 페이지 안의 taskId들에 대해 로그인 사용자의 즐겨찾기 여부를 한 번에 조회할 때 사용
+public record FavoriteMark(
+        Long taskId,             // 즐겨찾기한 업무 ID
+        LocalDateTime createdAt  // 즐겨찾기 등록일
+) {}
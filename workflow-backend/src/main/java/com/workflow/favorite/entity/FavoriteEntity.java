@@ -12,6 +12,9 @@ import java.time.LocalDateTime;
     name = "favorites",
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "task_id"}) // 중복 방지
+    },
+    indexes = {
+        @Index(name = "idx_favorites_user_created", columnList = "user_id, created_at") // 즐겨찾기 탭 등록일 정렬용
     }
 )
 @Getter
@@ -1,5 +1,6 @@
 package com.workflow.favorite.service;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -11,9 +12,13 @@ import com.workflow.favorite.entity.FavoriteEntity;
 import com.workflow.favorite.repository.FavoriteRepository;
 import com.workflow.tasks.entity.TaskEntity;
 import com.workflow.tasks.repasitory.TaskRepository;
+import com.workflow.tasks.service.TaskCounterService;
+import com.workflow.tasks.service.TaskKpiCache;
+import com.workflow.user.dto.UserSnapshot;
 import com.workflow.user.entity.UserEntity;
 import com.workflow.user.enums.Role;
 import com.workflow.user.repository.UserRepository;
+import com.workflow.user.service.UserDirectory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,7 +29,10 @@ public class FavoriteService {
 
 	private final FavoriteRepository favoriteRepository;
 	private final UserRepository userRepository;
+	private final UserDirectory userDirectory;
 	private final TaskRepository taskRepository;
+	private final TaskKpiCache kpiCache;
+	private final TaskCounterService taskCounterService;
 
     // 즐겨찾기 등록, 해제 (토글)
 	public boolean toggleFavorite(Long userId, Long taskId) {
@@ -40,27 +48,33 @@ public class FavoriteService {
 	        throw new ApiException(ErrorCode.BAD_REQUEST, "삭제된 업무는 즐겨찾기 할 수 없습니다.");
 	    }
 
-	    // 로그인 유저 조회
-	    UserEntity loginUser = userRepository.findById(userId)
-	            .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+	    // 로그인 유저 조회 (디렉터리 캐시)
+	    UserSnapshot me = userDirectory.requireUser(userId);
 
 	    // 권한 체크
-	    Role role = loginUser.getRole();
+	    Role role = me.role();
 	    boolean canAccess = role == Role.ADMIN
 	            || task.getCreatedBy().getId().equals(userId)
 	            || (task.getAssignee() != null && task.getAssignee().getId().equals(userId))
-	            || (role == Role.MANAGER && loginUser.getDepartment().getId().equals(task.getWorkDepartment().getId()));
+	            || (role == Role.MANAGER && task.getWorkDepartment().getId().equals(me.departmentId()));
 
 	    if (!canAccess) {
 	        throw new ApiException(ErrorCode.UNAUTHORIZED, "즐겨찾기 권한이 없습니다.");
 	    }
 
+	    // 내 즐겨찾기 KPI 갱신
+	    kpiCache.evict(List.of(userId));
+
+	    // favorites.user_id 연결용 프록시 참조 (users 조회 없음)
+	    UserEntity loginUser = userRepository.getReferenceById(userId);
+
 	    // 기존 즐겨찾기 여부 확인
 	    Optional<FavoriteEntity> existing = favoriteRepository.findByUserAndTask(loginUser, task);
 
 	    if (existing.isPresent()) {
 	        // 즐겨찾기 되어 있으면 삭제
 	        favoriteRepository.delete(existing.get());
+	        taskCounterService.favoriteChanged(userId, task.getStatus(), -1);
 	        return false; // 이제 즐겨찾기 아님
 	    } else {
 	        // 즐겨찾기 등록
@@ -69,6 +83,7 @@ public class FavoriteService {
 	                .task(task)
 	                .build();
 	        favoriteRepository.save(fav);
+	        taskCounterService.favoriteChanged(userId, task.getStatus(), 1);
 	        return true; // 이제 즐겨찾기 됨
 	    }
 	}
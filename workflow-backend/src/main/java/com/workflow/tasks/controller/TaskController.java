@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.workflow.common.dto.CursorResponse;
 import com.workflow.common.dto.PageResponse;
 import com.workflow.tasks.dto.TaskCreateRequest;
+import com.workflow.tasks.dto.TaskListResponse;
 import com.workflow.tasks.dto.TaskResponse;
 import com.workflow.tasks.dto.TaskUpdateRequest;
 import com.workflow.tasks.enums.TaskStatus;
@@ -35,7 +37,7 @@ public class TaskController {
 	
 	// 업무 목록 조회
 	@GetMapping
-	public ResponseEntity<PageResponse<TaskResponse>> list(
+	public ResponseEntity<PageResponse<TaskListResponse>> list(
 	    @RequestParam(name = "scope", required = false, defaultValue = "all") String scope, // 조회 범위(all, my, dept 등)
 	    @RequestParam(name = "status", required = false) TaskStatus status, // 필터: 업무 상태
         @RequestParam(name = "deptId", required = false) Long deptId, // 부서 아이디
@@ -45,13 +47,30 @@ public class TaskController {
 	    @AuthenticationPrincipal UserDetails principal // Spring Security 인증 정보
 	) {
 		Long userId = Long.parseLong(principal.getUsername()); // username에 실제 userId 저장
-		Page<TaskResponse> result = taskQueryService.list(scope, status, userId, deptId, page, size, sort); // 서비스 호출
+		Page<TaskListResponse> result = taskQueryService.list(scope, status, userId, deptId, page, size, sort); // 서비스 호출
 		
 		System.out.println("deptId : " + deptId);
 		
 		return ResponseEntity.ok(PageResponse.from(result)); // 페이징 응답 포맷 변환 후 반환
 	}
 	
+	// 업무 목록 조회 (커서 방식, 무한 스크롤용)
+	// cursor 파라미터가 있으면 이 메서드로 매핑 (?cursor= 빈 값이면 첫 페이지)
+	// 응답의 nextCursor를 다음 요청에 그대로 넘기면 됨, 전체 개수(count)는 제공하지 않음
+	@GetMapping(params = "cursor")
+	public ResponseEntity<CursorResponse<TaskListResponse>> listByCursor(
+	    @RequestParam(name = "scope", required = false, defaultValue = "all") String scope, // 조회 범위
+	    @RequestParam(name = "status", required = false) TaskStatus status, // 필터: 업무 상태
+	    @RequestParam(name = "deptId", required = false) Long deptId, // 부서 아이디
+	    @RequestParam(name = "cursor", required = false) String cursor, // 이전 응답의 nextCursor
+	    @RequestParam(name = "size", required = false, defaultValue = "9") int size, // 한 번에 가져올 개수
+	    @RequestParam(name = "sort", required = false, defaultValue = "createdAtDesc") String sort,
+	    @AuthenticationPrincipal UserDetails principal // Spring Security 인증 정보
+	) {
+		Long userId = Long.parseLong(principal.getUsername()); // username에 실제 userId 저장
+		return ResponseEntity.ok(taskQueryService.listByCursor(scope, status, userId, deptId, size, sort, cursor));
+	}
+	
 	// 업무 생성
 	@PostMapping("/create")
 	public ResponseEntity<TaskResponse> create(
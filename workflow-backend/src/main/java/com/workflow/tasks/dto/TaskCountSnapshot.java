@@ -0,0 +1,23 @@
+package com.workflow.tasks.dto;
+
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.enums.TaskStatus;
+
+// 카운터 계산에 필요한 업무 값만 담은 스냅샷
+// 변경 전/후 스냅샷 차이만큼 task_counters를 증감
+public record TaskCountSnapshot(
+        Long createdById,       // 작성자
+        Long assigneeId,        // 담당자 (없으면 null)
+        TaskStatus status       // 상태
+) {
+
+    // 삭제된 업무는 카운트 대상이 아니므로 null
+    public static TaskCountSnapshot of(TaskEntity t) {
+        if (t == null || t.isDeleted()) return null;
+        return new TaskCountSnapshot(
+                t.getCreatedBy().getId(),
+                t.getAssignee() != null ? t.getAssignee().getId() : null,
+                t.getStatus()
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.workflow.tasks.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+import com.workflow.tasks.enums.TaskSort;
+
+// 업무 목록 커서(keyset) 페이징 위치
+// 마지막 row의 정렬 키 + id를 담아서 다음 페이지는 "이 위치 다음"부터 조회
+// 클라이언트에는 base64 문자열로만 전달 (내부 구조는 노출하지 않음)
+public record TaskCursor(
+        TaskSort sort,          // 커서를 만든 정렬 기준 (요청 정렬과 다르면 무효)
+        LocalDateTime time,     // createdAt / deletedAt / (priority 정렬 시) createdAt
+        LocalDate date,         // dueDate
+        Integer rank,           // 중요도 순위 (priority 정렬)
+        Long id                 // 동일 키 내 순서 고정용
+) {
+
+    private static final String SEP = "|";
+
+    // 페이지 마지막 row → 커서
+    // 즐겨찾기 탭의 등록일 정렬은 즐겨찾기 등록일 기준
+    public static TaskCursor of(TaskSort sort, boolean favoriteScope, TaskListResponse last) {
+        return switch (sort) {
+            case CREATED_AT_DESC, CREATED_AT_ASC -> new TaskCursor(sort,
+                    favoriteScope ? last.getFavoriteCreatedAt() : last.getCreatedAt(), null, null, last.getId());
+            case DUE_DATE_ASC, DUE_DATE_DESC -> new TaskCursor(sort, null, last.getDueDate(), null, last.getId());
+            case DELETED_AT_DESC, DELETED_AT_ASC -> new TaskCursor(sort, last.getDeletedAt(), null, null, last.getId());
+            case PRIORITY_DESC, PRIORITY_ASC -> new TaskCursor(sort,
+                    last.getCreatedAt(), null, last.getPriority().getRank(), last.getId());
+        };
+    }
+
+    public String encode() {
+        String raw = String.join(SEP,
+                sort.getParam(),
+                time == null ? "" : time.toString(),
+                date == null ? "" : date.toString(),
+                rank == null ? "" : rank.toString(),
+                id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5) throw new IllegalArgumentException();
+
+            TaskSort sort = TaskSort.from(parts[0]);
+            if (!sort.getParam().equals(parts[0])) throw new IllegalArgumentException();
+
+            TaskCursor c = new TaskCursor(
+                    sort,
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDate.parse(parts[2]),
+                    parts[3].isEmpty() ? null : Integer.valueOf(parts[3]),
+                    Long.valueOf(parts[4])
+            );
+
+            // dueDate/deletedAt은 null 가능, 나머지 정렬 키는 필수
+            boolean valid = switch (sort) {
+                case CREATED_AT_DESC, CREATED_AT_ASC -> c.time() != null;
+                case PRIORITY_DESC, PRIORITY_ASC -> c.time() != null && c.rank() != null;
+                default -> true;
+            };
+            if (!valid) throw new IllegalArgumentException();
+
+            return c;
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "cursor 값이 올바르지 않습니다.");
+        }
+    }
+}
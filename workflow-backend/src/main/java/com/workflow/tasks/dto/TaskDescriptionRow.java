@@ -0,0 +1,10 @@
+package com.workflow.tasks.dto;
+
+// 업무 ID + 본문 (native query interface projection, 컬럼 별칭 id/description 기준)
+// 본문에서 계산하는 컬럼 보정용
+public interface TaskDescriptionRow {
+
+    Long getId();
+
+    String getDescription();
+}
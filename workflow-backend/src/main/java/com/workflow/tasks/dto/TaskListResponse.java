@@ -0,0 +1,99 @@
+package com.workflow.tasks.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.workflow.tasks.enums.TaskPriority;
+import com.workflow.tasks.enums.TaskStatus;
+import com.workflow.tasks.enums.TaskVisibility;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 업무 목록 응답 DTO
+// 상세용 TaskResponse와 달리 description 전체/첨부 목록 없이 미리보기 문구 + 이미지/영상 여부만 전달
+@Getter
+@Builder
+public class TaskListResponse {
+
+    private Long id;                       // 업무 ID
+    private String title;                  // 업무 제목
+    private String descriptionExcerpt;     // 본문 미리보기 (태그 제거된 평문)
+    private boolean hasImageInDescription; // 본문 이미지 포함 여부
+    private boolean hasVideoInDescription; // 본문 영상 포함 여부
+    private TaskStatus status;             // 상태
+    private TaskPriority priority;         // 우선순위
+    private TaskVisibility visibility;     // 공개 범위
+    private LocalDate dueDate;             // 마감일
+    private LocalDateTime createdAt;       // 생성 시각
+
+    private Long createdById;              // 생성자 ID
+    private String createdByName;          // 생성자 이름
+    private String createdByDepartmentName;// 생성자 소속 부서명
+    private String createdByDepartmentCode;// 생성자 소속 부서 코드
+
+    private Long assigneeId;               // 담당자 ID
+    private String assigneeName;           // 담당자 이름
+    private String assigneeDepartmentName; // 담당자 소속 부서명
+    private String assigneeDepartmentCode; // 담당자 소속 부서 코드
+
+    private String ownerDepartmentName;    // 업무 소유 부서명
+    private String ownerDepartmentCode;    // 업무 소유 부서 코드
+    private String workDepartmentName;     // 실제 업무 처리 부서명
+    private String workDepartmentCode;     // 실제 업무 처리 부서 코드
+
+    private long attachmentsCount;         // 첨부파일 개수
+
+    private Long version;                  // 버전
+
+    private boolean isDeleted;             // 삭제 여부
+
+    private LocalDateTime deletedAt;       // 삭제 시각
+
+    private boolean isFavorite;            // 즐겨찾기 여부
+
+    private LocalDateTime favoriteCreatedAt; // 즐겨찾기 등록일
+
+    public static TaskListResponse from(TaskListRow r,
+                                        long attachmentsCount,
+                                        boolean isFavorite,
+                                        LocalDateTime favoriteCreatedAt) {
+        return TaskListResponse.builder()
+                .id(r.id())
+                .title(r.title())
+                .descriptionExcerpt(r.descriptionExcerpt() != null ? r.descriptionExcerpt() : "")
+                .hasImageInDescription(Boolean.TRUE.equals(r.hasImage()))
+                .hasVideoInDescription(Boolean.TRUE.equals(r.hasVideo()))
+                .status(r.status())
+                .priority(r.priority())
+                .visibility(r.visibility())
+                .dueDate(r.dueDate())
+                .createdAt(r.createdAt())
+
+                .createdById(r.createdById())
+                .createdByName(r.createdByName())
+                .createdByDepartmentName(r.createdByDepartmentName())
+                .createdByDepartmentCode(r.createdByDepartmentCode())
+
+                .assigneeId(r.assigneeId())
+                .assigneeName(r.assigneeName())
+                .assigneeDepartmentName(r.assigneeDepartmentName())
+                .assigneeDepartmentCode(r.assigneeDepartmentCode())
+
+                .ownerDepartmentName(r.ownerDepartmentName())
+                .ownerDepartmentCode(r.ownerDepartmentCode())
+                .workDepartmentName(r.workDepartmentName())
+                .workDepartmentCode(r.workDepartmentCode())
+
+                .attachmentsCount(Math.max(0, attachmentsCount)) // 음수 방어
+
+                .version(r.version())
+                .isDeleted(Boolean.TRUE.equals(r.deleted()))
+                .deletedAt(r.deletedAt())
+
+                .isFavorite(isFavorite)
+                .favoriteCreatedAt(favoriteCreatedAt)
+
+                .build();
+    }
+}
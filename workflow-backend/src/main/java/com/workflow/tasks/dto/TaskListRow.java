@@ -0,0 +1,43 @@
+package com.workflow.tasks.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.workflow.tasks.enums.TaskPriority;
+import com.workflow.tasks.enums.TaskStatus;
+import com.workflow.tasks.enums.TaskVisibility;
+
+// 목록 조회 전용 projection (constructor expression)
+// 목록 카드에 필요한 컬럼 + 작성자/담당자/부서 이름만 조회, description 전체(TEXT)는 조회하지 않음
+public record TaskListRow(
+        Long id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        TaskVisibility visibility,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        Long version,
+        Boolean deleted,
+        LocalDateTime deletedAt,
+
+        Long createdById,
+        String createdByName,
+        String createdByDepartmentName,
+        String createdByDepartmentCode,
+
+        Long assigneeId,
+        String assigneeName,
+        String assigneeDepartmentName,
+        String assigneeDepartmentCode,
+
+        String ownerDepartmentName,
+        String ownerDepartmentCode,
+        String workDepartmentName,
+        String workDepartmentCode,
+
+        String descriptionExcerpt,  // 본문 미리보기 (tasks.description_excerpt, 보정 전이면 null)
+        Boolean hasImage,           // 본문 이미지 포함 여부 (tasks.has_image, 보정 전이면 null)
+        Boolean hasVideo            // 본문 영상(iframe) 포함 여부 (tasks.has_video, 보정 전이면 null)
+) {
+}
@@ -0,0 +1,37 @@
+package com.workflow.tasks.dto;
+
+import java.util.Set;
+
+import com.workflow.tasks.enums.TaskScope;
+import com.workflow.tasks.enums.TaskSort;
+import com.workflow.tasks.enums.TaskStatus;
+import com.workflow.tasks.enums.TaskVisibility;
+import com.workflow.user.enums.Role;
+
+import lombok.Builder;
+
+// 업무 목록 검색 조건
+// TaskQueryService에서 요청 파라미터 + 로그인 사용자 정보로 만들고
+// TaskSpecifications가 이 값으로 쿼리 하나를 조립함
+@Builder
+public record TaskSearchCondition(
+        TaskScope scope,            // 조회 범위 (all, public, team ...)
+        Set<TaskStatus> statuses,   // 상태 필터, 비어 있으면 전체
+        Long deptId,                // 업무 부서 필터, null이면 전체
+        TaskVisibility visibility,  // 공개 범위 필터, null이면 전체
+        TaskSort sort,              // 정렬 기준
+        TaskCursor cursor,          // 커서 페이징 위치, null이면 처음부터 (offset 페이징도 null)
+
+        Long userId,                // 로그인 사용자 ID
+        Long myDeptId,              // 로그인 사용자 부서 ID
+        Role role                   // 로그인 사용자 권한
+) {
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    public boolean isManager() {
+        return role == Role.MANAGER;
+    }
+}
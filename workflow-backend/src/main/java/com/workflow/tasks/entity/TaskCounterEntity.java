@@ -0,0 +1,48 @@
+package com.workflow.tasks.entity;
+
+import com.workflow.tasks.enums.TaskCounterType;
+import com.workflow.tasks.enums.TaskStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 상태별 업무 개수 (삭제되지 않은 업무 기준)
+// KPI를 COUNT 집계 대신 키 조회로 가져오기 위한 테이블
+// 값 변경은 TaskCounterRepository의 upsert로만 (엔티티는 조회 전용)
+@Entity
+@Table(name = "task_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_task_counters_key", columnNames = {"counter_type", "owner_id", "status"})
+    // upsert(ON CONFLICT) 대상 + 조회 인덱스
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskCounterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "counter_type", nullable = false, length = 20)
+    private TaskCounterType counterType; // 카운터 종류
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId; // 사용자 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status; // 업무 상태
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount; // 업무 개수
+}
@@ -0,0 +1,30 @@
+package com.workflow.tasks.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// task_counters 재계산 상태 (row 1개)
+// 기동 시 "한 번도 채운 적 없음"과 "업무가 없어서 비어 있음"을 구분하는 용도
+// task_counters의 counter_type/status는 enum 컬럼(값 제약)이라 표시용 row를 섞지 않고 별도 테이블로 둠
+// 값 변경은 TaskCounterStateRepository의 upsert로만 (엔티티는 조회 전용)
+@Entity
+@Table(name = "task_counter_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskCounterStateEntity {
+
+    public static final short SINGLETON_ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(name = "rebuilt_at", nullable = false)
+    private LocalDateTime rebuiltAt; // 마지막 재계산 완료 시각
+}
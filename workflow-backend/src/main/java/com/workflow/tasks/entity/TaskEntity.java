@@ -2,11 +2,14 @@ package com.workflow.tasks.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
+import com.workflow.common.util.HtmlTextUtil;
 import com.workflow.department.entity.DepartmentEntity;
 import com.workflow.tasks.enums.TaskPriority;
 import com.workflow.tasks.enums.TaskStatus;
 import com.workflow.tasks.enums.TaskVisibility;
+import com.workflow.user.dto.UserSnapshot;
 import com.workflow.user.entity.UserEntity;
 import com.workflow.user.enums.Role;
 
@@ -18,6 +21,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -33,7 +37,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_deleted_created", columnList = "is_deleted, created_at, id"),
+    // 목록 기본 정렬(최신 등록순) + 삭제 여부 필터용
+    @Index(name = "idx_tasks_work_dept_deleted_created", columnList = "work_department_id, is_deleted, created_at"),
+    // 우리팀 탭 / 어드민 부서 필터용
+    @Index(name = "idx_tasks_deleted_priority_created", columnList = "is_deleted, priority_rank, created_at, id")
+    // 중요도 정렬용 (CASE 식 정렬은 인덱스를 탈 수 없어서 숫자 컬럼으로 정렬)
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -46,12 +57,32 @@ public class TaskEntity {
     private Long id; // PK, 업무 고유 ID
 
     @NotBlank(message = "제목은 필수입니다.")
+    public static final int DESCRIPTION_EXCERPT_LENGTH = 200; // 목록 카드 미리보기 최대 글자 수
+
     @Column(nullable = false, length = 200)
     private String title; // 업무 제목
 
     @Column(columnDefinition = "TEXT")
     private String description; // 업무 상세 설명
 
+    // 본문 이미지/영상(iframe) 포함 여부, description과 항상 같이 변경
+    // 목록 조회에서 본문(TEXT)을 읽지 않고 표시하기 위해 저장 시점에 계산
+    // null = 컬럼 추가 전 데이터 (기동 시 TaskMediaFlagBackfill이 채움)
+    @Column(name = "has_image")
+    @Setter(AccessLevel.NONE)
+    private Boolean hasImage;
+
+    @Column(name = "has_video")
+    @Setter(AccessLevel.NONE)
+    private Boolean hasVideo;
+
+    // 목록 카드 미리보기 문구 (태그 제거된 평문 앞부분), description과 항상 같이 변경
+    // 목록 조회에서 본문(TEXT)을 아예 읽지 않도록 저장 시점에 계산
+    // null = 컬럼 추가 전 데이터 (기동 시 TaskDescriptionExcerptBackfill이 채움)
+    @Column(name = "description_excerpt", length = DESCRIPTION_EXCERPT_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private String descriptionExcerpt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
@@ -62,11 +93,24 @@ public class TaskEntity {
     @Builder.Default
     private TaskPriority priority = TaskPriority.MEDIUM; // 업무 우선순위
 
+    // 중요도 정렬용 순위 (HIGH 3, MEDIUM 2, LOW 1), priority와 항상 같이 변경
+    // 기존 row가 있는 테이블에도 컬럼 추가가 가능하도록 DB 기본값 2(MEDIUM)
+    @Column(name = "priority_rank", nullable = false, columnDefinition = "integer default 2")
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private int priorityRank = TaskPriority.MEDIUM.getRank();
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
     private TaskVisibility visibility = TaskVisibility.DEPARTMENT; // 공개 범위
 
+    // 내용 변경 횟수 (감사 로그에서 몇 번째 변경마다 전체 내용을 남길지 판단용)
+    @Column(name = "description_revision", nullable = false, columnDefinition = "integer default 0")
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private int descriptionRevision = 0;
+
     @Column(name = "due_date")
     private LocalDate dueDate; // 마감일
 
@@ -116,7 +160,9 @@ public class TaskEntity {
         // null 방어용 기본값 세팅
         if (status == null) status = TaskStatus.TODO;
         if (priority == null) priority = TaskPriority.MEDIUM;
+        priorityRank = priority.getRank();
         if (visibility == null) visibility = TaskVisibility.DEPARTMENT;
+        updateDescriptionFields();
 
         // owner/work 부서 기본 세팅
         if (createdBy != null && ownerDepartment == null) {
@@ -132,31 +178,63 @@ public class TaskEntity {
     void preUpdate() {
         updatedAt = LocalDateTime.now(); // 수정 시 updatedAt 갱신
     }
+
+    // 우선순위 변경 시 정렬용 순위도 같이 변경
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+        if (priority != null) this.priorityRank = priority.getRank();
+    }
     
+    // 내용 변경 시 이미지/영상 포함 여부, 미리보기 문구도 같이 변경
+    public void setDescription(String description) {
+        this.description = description;
+        updateDescriptionFields();
+    }
+
+    private void updateDescriptionFields() {
+        String html = (description == null) ? "" : description.toLowerCase(Locale.ROOT);
+        hasImage = html.contains("<img");
+        hasVideo = html.contains("<iframe");
+        descriptionExcerpt = HtmlTextUtil.excerpt(description, DESCRIPTION_EXCERPT_LENGTH);
+    }
+
+    // 내용 변경 횟수 +1 후 반환
+    public int nextDescriptionRevision() {
+        return ++descriptionRevision;
+    }
+
     // 권한 체크
     public boolean canEdit(UserEntity user) {
         if (user == null) return false;
+        return canEdit(user.getId(), user.getRole(),
+                user.getDepartment() != null ? user.getDepartment().getId() : null);
+    }
+
+    // 권한 체크 (디렉터리 캐시 스냅샷 기준, 사용자 엔티티 조회 없이)
+    public boolean canEdit(UserSnapshot user) {
+        if (user == null) return false;
+        return canEdit(user.id(), user.role(), user.departmentId());
+    }
+
+    private boolean canEdit(Long userId, Role role, Long departmentId) {
 
         // 작성자는 수정 가능
-        if (this.createdBy.getId().equals(user.getId())) return true;
+        if (this.createdBy.getId().equals(userId)) return true;
 
         // 담당자는 수정 가능
-        if (this.assignee != null && this.assignee.getId().equals(user.getId())) return true;
+        if (this.assignee != null && this.assignee.getId().equals(userId)) return true;
 
         // 전사 업무(PUBLIC)인데 일반 사원이라면 작성자/담당자가 아니면 수정 불가
-        if (this.visibility == TaskVisibility.PUBLIC 
-                && user.getRole() == Role.USER  // 일반 사원
-                && !this.createdBy.getId().equals(user.getId())
-                && (this.assignee == null || !this.assignee.getId().equals(user.getId()))) {
+        if (this.visibility == TaskVisibility.PUBLIC && role == Role.USER) {
             return false;
         }
 
         // 관리자: 모든 업무 수정 가능
-        if (user.getRole() == Role.ADMIN) return true;
+        if (role == Role.ADMIN) return true;
 
         // 매니저: 자기 부서 업무만 수정 가능
-        if (user.getRole() == Role.MANAGER && user.getDepartment() != null) {
-            if (this.workDepartment != null && this.workDepartment.getId().equals(user.getDepartment().getId())) {
+        if (role == Role.MANAGER && departmentId != null) {
+            if (this.workDepartment != null && this.workDepartment.getId().equals(departmentId)) {
                 return true;
             }
         }
@@ -0,0 +1,9 @@
+package com.workflow.tasks.enums;
+
+// task_counters 카운터 종류 (owner_id = 사용자 ID)
+// 부서 단위 카운터는 두지 않음: 우리 팀 목록은 다른 사람의 PRIVATE 업무를 숨기므로 보는 사람마다 개수가 다름
+public enum TaskCounterType {
+    ASSIGNED,   // 사용자가 담당한 업무
+    CREATED,    // 사용자가 작성한 업무
+    FAVORITE    // 사용자가 즐겨찾기한 업무
+}
@@ -3,7 +3,17 @@ package com.workflow.tasks.enums;
 // 업무 우선순위
 // 업무 생성/조회/수정 시 사용
 public enum TaskPriority {
-    LOW,    // 낮음
-    MEDIUM, // 보통 (기본값)
-    HIGH    // 높음
+    LOW(1),    // 낮음
+    MEDIUM(2), // 보통 (기본값)
+    HIGH(3);   // 높음
+
+    private final int rank; // 정렬용 순위 (높을수록 중요)
+
+    TaskPriority(int rank) {
+        this.rank = rank;
+    }
+
+    public int getRank() {
+        return rank;
+    }
 }
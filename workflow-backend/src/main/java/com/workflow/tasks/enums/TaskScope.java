@@ -3,8 +3,22 @@ package com.workflow.tasks.enums;
 // 업무 조회
 public enum TaskScope {
 
-    ALL,      // 전체 업무 조회
-    CREATED,  // 내가 생성한 업무 조회
-    ASSIGNED  // 내가 담당자로 배정된 업무 조회
+    ALL,       // 전체 업무 조회 (내가 볼 수 있는 업무)
+    PUBLIC,    // 전사 공개 업무 조회
+    TEAM,      // 우리 팀(업무 부서) 업무 조회
+    CREATED,   // 내가 생성한 업무 조회
+    ASSIGNED,  // 내가 담당자로 배정된 업무 조회
+    PRIVATE,   // 개인 업무 조회
+    FAVORITE,  // 내가 즐겨찾기한 업무 조회
+    DELETED;   // 삭제된 업무 조회
 
+    // 요청 파라미터(all, public, team ...) → enum 변환
+    // 비어 있으면 ALL, 알 수 없는 값이면 null
+    public static TaskScope from(String value) {
+        if (value == null || value.isBlank()) return ALL;
+        for (TaskScope s : values()) {
+            if (s.name().equalsIgnoreCase(value.trim())) return s;
+        }
+        return null;
+    }
 }
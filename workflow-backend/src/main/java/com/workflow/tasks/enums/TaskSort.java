@@ -0,0 +1,40 @@
+package com.workflow.tasks.enums;
+
+// 업무 목록 정렬 기준
+// param: 프론트에서 넘어오는 sort 파라미터 값
+public enum TaskSort {
+
+    CREATED_AT_DESC("createdAtDesc", false), // 최신 등록순 (기본값)
+    CREATED_AT_ASC("createdAtAsc", true),    // 오래된 등록순
+    DUE_DATE_ASC("dueDateAsc", true),        // 마감 임박순
+    DUE_DATE_DESC("dueDateDesc", false),     // 마감 늦은순
+    DELETED_AT_DESC("deletedAtDesc", false), // 최근 삭제순 (삭제 탭 기본값)
+    DELETED_AT_ASC("deletedAtAsc", true),    // 오래된 삭제순
+    PRIORITY_DESC("priorityDesc", false),    // 중요도 높은순
+    PRIORITY_ASC("priorityAsc", true);       // 중요도 낮은순
+
+    private final String param;
+    private final boolean ascending;
+
+    TaskSort(String param, boolean ascending) {
+        this.param = param;
+        this.ascending = ascending;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    // sort 파라미터 → enum 변환, 알 수 없는 값이면 기본값(최신 등록순)
+    public static TaskSort from(String param) {
+        if (param == null || param.isBlank()) return CREATED_AT_DESC;
+        for (TaskSort s : values()) {
+            if (s.param.equals(param)) return s;
+        }
+        return CREATED_AT_DESC;
+    }
+}
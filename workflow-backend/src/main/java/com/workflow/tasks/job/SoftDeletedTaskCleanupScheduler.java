@@ -15,7 +15,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.workflow.attachment.entity.AttachmentEntity;
 import com.workflow.attachment.repository.AttachmentRepository;
+import com.workflow.attachment.service.AttachmentBlobService;
 import com.workflow.tasks.entity.TaskEntity;
 import com.workflow.tasks.repasitory.TaskRepository;
 
@@ -27,6 +29,7 @@ public class SoftDeletedTaskCleanupScheduler {
 
     private final TaskRepository taskRepository;
     private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobService attachmentBlobService;
 
     @Value("${app.upload-dir}")
     private String uploadDir;
@@ -40,9 +43,11 @@ public class SoftDeletedTaskCleanupScheduler {
     private Path root;
 
     public SoftDeletedTaskCleanupScheduler(TaskRepository taskRepository,
-                                           AttachmentRepository attachmentRepository) {
+                                           AttachmentRepository attachmentRepository,
+                                           AttachmentBlobService attachmentBlobService) {
         this.taskRepository = taskRepository;
         this.attachmentRepository = attachmentRepository;
+        this.attachmentBlobService = attachmentBlobService;
     }
 
     @PostConstruct
@@ -64,7 +69,16 @@ public class SoftDeletedTaskCleanupScheduler {
                 continue; // 아직 보존 기간 안 지남
             }
 
-            // 파일 삭제
+            // 첨부 blob 참조 해제 (다른 업무가 같은 파일을 참조하면 blob 유지)
+            for (AttachmentEntity a : attachmentRepository.findByTaskId(task.getId())) {
+                try {
+                    attachmentBlobService.release(a);
+                } catch (IOException e) {
+                    // 이전 방식 첨부는 아래 업무 폴더 삭제에서 같이 정리
+                }
+            }
+
+            // 파일 삭제 (에디터 이미지, 이전 방식 첨부)
             Path taskDir = root.resolve(Paths.get("tasks", task.getId().toString())).normalize();
             if (Files.exists(taskDir) && Files.isDirectory(taskDir)) {
                 try (Stream<Path> paths = Files.walk(taskDir)) {
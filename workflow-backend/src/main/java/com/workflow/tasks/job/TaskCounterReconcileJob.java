@@ -0,0 +1,42 @@
+package com.workflow.tasks.job;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.workflow.tasks.service.TaskCounterService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// task_counters 재계산 배치
+// 증감 방식은 버그/수동 DB 수정 등으로 원본과 어긋날 수 있으므로 주기적으로 원본 기준으로 다시 계산
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskCounterReconcileJob {
+
+    private final TaskCounterService taskCounterService;
+
+    @Value("${app.task-counter-reconcile.enabled:true}")
+    private boolean enabled;
+
+    // 한 번도 채운 적 없으면(테이블 신규 생성 등) 기동 시 바로 채움
+    // 업무가 0건이라 비어 있는 경우와 구분하기 위해 task_counter_state로 판단
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfNeeded() {
+        if (!enabled) return;
+        if (!taskCounterService.isBuilt()) {
+            taskCounterService.rebuild();
+        }
+    }
+
+    // 매일 새벽 4시 실행 (다른 정리 배치 이후)
+    @Scheduled(cron = "${app.task-counter-reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        if (!enabled) return;
+        taskCounterService.rebuild();
+    }
+}
@@ -0,0 +1,57 @@
+package com.workflow.tasks.job;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workflow.common.util.HtmlTextUtil;
+import com.workflow.tasks.dto.TaskDescriptionRow;
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.repasitory.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// description_excerpt 기존 데이터 보정
+// 컬럼 추가 전 업무는 null이라 목록 미리보기가 비므로 기동 시 본문 기준으로 한 번 채움
+// (새로 저장/수정되는 업무는 TaskEntity에서 description과 같이 계산)
+// 본문(TEXT)을 읽어야 하므로 BATCH_SIZE개씩 나눠서 처리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskDescriptionExcerptBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int updated = 0;
+
+        while (true) {
+            List<TaskDescriptionRow> rows = taskRepository.findExcerptBackfillBatch(afterId, BATCH_SIZE);
+            if (rows.isEmpty()) break;
+
+            Integer filled = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (TaskDescriptionRow row : rows) {
+                    String excerpt = HtmlTextUtil.excerpt(row.getDescription(), TaskEntity.DESCRIPTION_EXCERPT_LENGTH);
+                    count += taskRepository.fillDescriptionExcerpt(row.getId(), excerpt);
+                }
+                return count;
+            });
+            updated += (filled != null) ? filled : 0;
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        if (updated > 0) {
+            log.info("description_excerpt 보정 완료: {}건", updated);
+        }
+    }
+}
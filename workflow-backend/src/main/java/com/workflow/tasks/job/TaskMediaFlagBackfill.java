@@ -0,0 +1,29 @@
+package com.workflow.tasks.job;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.workflow.tasks.repasitory.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// has_image / has_video 기존 데이터 보정
+// 컬럼 추가 전 업무는 null이라 목록에서 이미지/영상 표시가 빠지므로 기동 시 본문 기준으로 한 번 채움
+// (새로 저장/수정되는 업무는 TaskEntity에서 description과 같이 계산)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskMediaFlagBackfill {
+
+    private final TaskRepository taskRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = taskRepository.backfillMediaFlags();
+        if (updated > 0) {
+            log.info("has_image/has_video 보정 완료: {}건", updated);
+        }
+    }
+}
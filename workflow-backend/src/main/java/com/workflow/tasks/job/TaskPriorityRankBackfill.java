@@ -0,0 +1,33 @@
+package com.workflow.tasks.job;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.workflow.tasks.enums.TaskPriority;
+import com.workflow.tasks.repasitory.TaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// priority_rank 기존 데이터 보정
+// 운영 DB는 ddl-auto=update로 컬럼만 추가되고 workflow.sql은 실행되지 않으므로 기동 시 한 번 맞춰줌
+// (HIGH/LOW 업무가 기본값 2로 남아 있으면 중요도 정렬이 틀어짐)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPriorityRankBackfill {
+
+    private final TaskRepository taskRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = taskRepository.backfillPriorityRank(
+                TaskPriority.HIGH.getRank(),
+                TaskPriority.MEDIUM.getRank(),
+                TaskPriority.LOW.getRank());
+        if (updated > 0) {
+            log.info("priority_rank 보정 완료: {}건", updated);
+        }
+    }
+}
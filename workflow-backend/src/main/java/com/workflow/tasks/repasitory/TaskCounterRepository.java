@@ -0,0 +1,63 @@
+package com.workflow.tasks.repasitory;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.workflow.tasks.entity.TaskCounterEntity;
+import com.workflow.tasks.enums.TaskCounterType;
+
+public interface TaskCounterRepository extends JpaRepository<TaskCounterEntity, Long> {
+
+    // KPI 조회: (counter_type, owner_id) 키 조회
+    List<TaskCounterEntity> findByOwnerIdAndCounterTypeIn(Long ownerId, Collection<TaskCounterType> counterTypes);
+
+    // 카운터 증감 (없으면 insert, 있으면 더하기)
+    // 동시에 여러 트랜잭션이 같은 카운터를 바꿔도 row 잠금으로 순서대로 반영
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_counters (counter_type, owner_id, status, task_count)
+        VALUES (:counterType, :ownerId, :status, :delta)
+        ON CONFLICT (counter_type, owner_id, status)
+        DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count
+    """, nativeQuery = true)
+    int add(@Param("counterType") String counterType,
+            @Param("ownerId") Long ownerId,
+            @Param("status") String status,
+            @Param("delta") long delta);
+
+    // 재계산 중 증감 upsert 차단 (진행 중인 증감 트랜잭션은 끝날 때까지 대기)
+    @Modifying
+    @Query(value = "LOCK TABLE task_counters IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM task_counters", nativeQuery = true)
+    int deleteAllCounters();
+
+    // tasks/favorites 원본으로 전체 카운터 재생성
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_counters (counter_type, owner_id, status, task_count)
+        SELECT 'ASSIGNED', t.assignee_id, t.status, COUNT(*)
+          FROM tasks t
+         WHERE t.is_deleted = false AND t.assignee_id IS NOT NULL
+         GROUP BY t.assignee_id, t.status
+        UNION ALL
+        SELECT 'CREATED', t.created_by, t.status, COUNT(*)
+          FROM tasks t
+         WHERE t.is_deleted = false
+         GROUP BY t.created_by, t.status
+        UNION ALL
+        SELECT 'FAVORITE', f.user_id, t.status, COUNT(*)
+          FROM favorites f
+          JOIN tasks t ON t.id = f.task_id
+         WHERE t.is_deleted = false
+         GROUP BY f.user_id, t.status
+    """, nativeQuery = true)
+    int insertFromSource();
+}
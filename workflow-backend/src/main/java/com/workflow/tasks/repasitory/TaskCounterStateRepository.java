@@ -0,0 +1,19 @@
+package com.workflow.tasks.repasitory;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.workflow.tasks.entity.TaskCounterStateEntity;
+
+public interface TaskCounterStateRepository extends JpaRepository<TaskCounterStateEntity, Short> {
+
+    // 재계산 완료 표시 (없으면 insert, 있으면 시각 갱신)
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_counter_state (id, rebuilt_at)
+        VALUES (1, NOW())
+        ON CONFLICT (id) DO UPDATE SET rebuilt_at = EXCLUDED.rebuilt_at
+    """, nativeQuery = true)
+    void markRebuilt();
+}
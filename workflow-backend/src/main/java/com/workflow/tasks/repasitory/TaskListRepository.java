@@ -0,0 +1,16 @@
+package com.workflow.tasks.repasitory;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.workflow.tasks.dto.TaskListRow;
+import com.workflow.tasks.entity.TaskEntity;
+
+// 목록 조회 전용 커스텀 Repository (구현: TaskListRepositoryImpl)
+// TaskSpecifications 조건을 그대로 쓰되 엔티티 대신 TaskListRow projection으로 조회
+public interface TaskListRepository {
+
+    // offset/limit 조회 (정렬은 Specification 안에서 지정)
+    List<TaskListRow> findListRows(Specification<TaskEntity> spec, long offset, int limit);
+}
@@ -0,0 +1,85 @@
+package com.workflow.tasks.repasitory;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.workflow.department.entity.DepartmentEntity;
+import com.workflow.tasks.dto.TaskListRow;
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.user.entity.UserEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// TaskListRepository 구현
+// 작성자/담당자/부서는 left join으로 이름/코드 컬럼만 select (엔티티 로딩, lazy 조회 없음)
+// description(TEXT)은 읽지 않고, 미리보기 문구/이미지/영상 포함 여부는 저장 시 계산해 둔 컬럼 사용
+public class TaskListRepositoryImpl implements TaskListRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<TaskListRow> findListRows(Specification<TaskEntity> spec, long offset, int limit) {
+
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TaskListRow> query = cb.createQuery(TaskListRow.class);
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+
+        // 담당자는 없을 수 있으므로 전부 left join
+        Join<TaskEntity, UserEntity> createdBy = root.join("createdBy", JoinType.LEFT);
+        Join<UserEntity, DepartmentEntity> createdByDept = createdBy.join("department", JoinType.LEFT);
+        Join<TaskEntity, UserEntity> assignee = root.join("assignee", JoinType.LEFT);
+        Join<UserEntity, DepartmentEntity> assigneeDept = assignee.join("department", JoinType.LEFT);
+        Join<TaskEntity, DepartmentEntity> ownerDept = root.join("ownerDepartment", JoinType.LEFT);
+        Join<TaskEntity, DepartmentEntity> workDept = root.join("workDepartment", JoinType.LEFT);
+
+        // where + order by는 TaskSpecifications에서
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) query.where(where);
+
+        query.select(cb.construct(TaskListRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("visibility"),
+                root.get("dueDate"),
+                root.get("createdAt"),
+                root.get("version"),
+                root.get("isDeleted"),
+                root.get("deletedAt"),
+
+                createdBy.get("id"),
+                createdBy.get("name"),
+                createdByDept.get("name"),
+                createdByDept.get("code"),
+
+                assignee.get("id"),
+                assignee.get("name"),
+                assigneeDept.get("name"),
+                assigneeDept.get("code"),
+
+                ownerDept.get("name"),
+                ownerDept.get("code"),
+                workDept.get("name"),
+                workDept.get("code"),
+
+                root.get("descriptionExcerpt"),
+                root.get("hasImage"),
+                root.get("hasVideo")
+        ));
+
+        return em.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -3,146 +3,26 @@ package com.workflow.tasks.repasitory;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.workflow.tasks.dto.TaskDescriptionRow;
 import com.workflow.tasks.entity.TaskEntity;
-import com.workflow.tasks.enums.TaskStatus;
-import com.workflow.tasks.enums.TaskVisibility;
 
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity>,
+		TaskListRepository {
 
 	// @EntityGraph: 연관 엔티티를 한 번에 같이 조회하라고 강제하는 옵션(N+1 문제 방지용 + Lazy 로딩 최적화)
 	// A를 가져올때 B도 같이 가져와
 	// 단, 즉시
 
-	// 기본 목록/필터
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByIsDeletedFalse(Pageable pageable); 
-    // 삭제되지 않은 모든 Task를 페이지 단위로 조회, 작성자/담당자 정보를 즉시 가져옴
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByIsDeletedFalseAndStatus(TaskStatus status, Pageable pageable);
-    // 삭제되지 않은 Task 중 특정 상태(status)를 가진 것만 조회
-
-	// created 탭: 내가 만든 것만
-	@EntityGraph(attributePaths = { "createdBy", "assignee"})
-	Page<TaskEntity> findByIsDeletedFalseAndCreatedBy_Id(Long createdById, Pageable pageable);
-    // 특정 사용자가 생성한 삭제되지 않은 Task 조회
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByIsDeletedFalseAndCreatedBy_IdAndStatus(Long createdById, TaskStatus status, Pageable pageable);
-    // 특정 사용자가 생성한 Task 중 상태가 특정 값인 것만 조회
-
-	// assigned 탭: 내가 담당인 것만
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByIsDeletedFalseAndAssignee_Id(Long assigneeId, Pageable pageable);
-    // 특정 사용자가 담당인 삭제되지 않은 Task 조회
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByIsDeletedFalseAndAssignee_IdAndStatus(Long assigneeId, TaskStatus status, Pageable pageable);
-    // 특정 사용자가 담당인 Task 중 상태가 특정 값인 것만 조회
-
-	// count 계열은 EntityGraph 붙이면 손해
-	long countByIsDeletedFalseAndAssignee_IdAndStatus(Long userId, TaskStatus status);
-    // 특정 사용자가 담당한 특정 상태의 Task 개수만 계산 (EntityGraph 미사용)
-
-	// created KPI (내가 만든 업무)
-    long countByIsDeletedFalseAndCreatedBy_IdAndStatus(Long userId, TaskStatus status);
-    // 특정 사용자가 생성한 특정 상태 Task 개수
-
-	// 전사 업무: PUBLIC만
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-		select t from TaskEntity t
-		where t.isDeleted = false
-		  and t.visibility = 'PUBLIC'
-	""")
-	Page<TaskEntity> findPublicOnly(Pageable pageable);
-    // 모든 사용자가 볼 수 있는 공개 Task 조회
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-		select t from TaskEntity t
-		where t.isDeleted = false
-		  and t.visibility = 'PUBLIC'
-		  and t.status = :status
-	""")
-	Page<TaskEntity> findPublicOnlyByStatus(@Param("status") TaskStatus status, Pageable pageable);
-    // 공개 Task 중 특정 상태만 조회
-
-	// 전체 업무: 내가 볼 수 있는 모든 업무
-	// PUBLIC + (DEPARTMENT면 내 부서) + (PRIVATE면 내가 작성/담당)
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-	  select t from TaskEntity t
-	  where t.isDeleted = false
-	    and (
-	          t.createdBy.id = :userId
-	       or t.assignee.id = :userId
-	       or t.visibility = 'PUBLIC'
-	       or (t.visibility = 'DEPARTMENT' and t.workDepartment.id = :deptId)
-	    )
-	""")
-	Page<TaskEntity> findAllVisibleForUser(@Param("userId") Long userId,
-	                                      @Param("deptId") Long deptId,
-	                                      Pageable pageable);
-    // 로그인 사용자가 볼 수 있는 모든 Task 조회: 공개/내부부서/내가 작성하거나 담당
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-	  select t from TaskEntity t
-	  where t.isDeleted = false
-	    and t.status = :status
-	    and (
-	          t.createdBy.id = :userId
-	       or t.assignee.id = :userId
-	       or t.visibility = 'PUBLIC'
-	       or (t.visibility = 'DEPARTMENT' and t.workDepartment.id = :deptId)
-	    )
-	""")
-	Page<TaskEntity> findAllVisibleForUserByStatus(@Param("userId") Long userId,
-	                                              @Param("deptId") Long deptId,
-	                                              @Param("status") TaskStatus status,
-	                                              Pageable pageable);
-    // 로그인 사용자가 볼 수 있는 Task 중 특정 상태인 것만 조회
-
-	// 우리팀 업무: 우리 팀만 + PRIVATE는 (작성자/담당자=나)만 예외 허용
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-		select t from TaskEntity t
-		where t.isDeleted = false
-		  and t.workDepartment.id = :deptId
-		  and (
-		        t.visibility <> 'PRIVATE'
-		     or (t.visibility = 'PRIVATE' and (t.createdBy.id = :userId or t.assignee.id = :userId))
-		  )
-	""")
-	Page<TaskEntity> findTeamVisibleForUser(@Param("userId") Long userId,
-	                                       @Param("deptId") Long deptId,
-	                                       Pageable pageable);
-    // 내 부서 팀 Task 조회, PRIVATE인 경우 작성자/담당자만 예외 허용
-
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-		select t from TaskEntity t
-		where t.isDeleted = false
-		  and t.status = :status
-		  and t.workDepartment.id = :deptId
-		  and (
-		        t.visibility <> 'PRIVATE'
-		     or (t.visibility = 'PRIVATE' and (t.createdBy.id = :userId or t.assignee.id = :userId))
-		  )
-	""")
-	Page<TaskEntity> findTeamVisibleForUserByStatus(@Param("userId") Long userId,
-	                                               @Param("deptId") Long deptId,
-	                                               @Param("status") TaskStatus status,
-	                                               Pageable pageable);
-    // 내 부서 팀 Task 중 특정 상태만 조회
+	// 목록 조회: scope/status/부서/공개범위/정렬 조합은 TaskSpecifications.search()로 조립
+	// 목록 row는 TaskListRepository.findListRows() (projection), 전체 개수는 count(spec)
 
 	@EntityGraph(attributePaths = {
 	        "createdBy", "createdBy.department",
@@ -166,234 +46,70 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
 												  @Param("deptId") Long	deptId);
     // 특정 Task 상세 조회: 로그인 사용자가 접근 가능한 Task만, 작성자/담당자/공개/부서 포함
 	
+	// 단건 조회 + TaskResponse 변환에 필요한 연관(작성자/담당자와 각 부서, 소유/처리 부서)을 한 번에 조회
+	// 상세/수정/삭제/복구 응답에서 부서 lazy 로딩 쿼리가 따로 나가지 않도록
+	@EntityGraph(attributePaths = {
+	        "createdBy", "createdBy.department",
+	        "assignee", "assignee.department",
+	        "ownerDepartment",
+	        "workDepartment"
+	})
+	Optional<TaskEntity> findWithDetailsById(Long taskId);
+
 	// 어드민용 조회
 	Optional<TaskEntity> findByIdAndIsDeletedFalse(Long taskId);
 	
 	// soft-deleted Task 조회용
 	List<TaskEntity> findByIsDeletedTrue();
-	
-	// 어드민: 특정 부서 업무 조회
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByWorkDepartment_IdAndIsDeletedFalse(Long deptId, Pageable pageable);
-
-	// 어드민: 특정 부서 업무 + 상태 필터
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	Page<TaskEntity> findByWorkDepartment_IdAndStatusAndIsDeletedFalse(Long deptId, TaskStatus status, Pageable pageable);
-	
-	// 어드민: 특정 부서 PUBLIC Task 조회
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-	    select t from TaskEntity t
-	    where t.isDeleted = false
-	      and t.visibility = 'PUBLIC'
-	      and t.workDepartment.id = :deptId
-	""")
-	Page<TaskEntity> findPublicByDepartmentId(@Param("deptId") Long deptId, Pageable pageable);
-
-	// 어드민: 특정 부서 PUBLIC + 상태 필터
-	@EntityGraph(attributePaths = { "createdBy", "assignee" })
-	@Query("""
-	    select t from TaskEntity t
-	    where t.isDeleted = false
-	      and t.visibility = 'PUBLIC'
-	      and t.workDepartment.id = :deptId
-	      and t.status = :status
-	""")
-	Page<TaskEntity> findPublicByDepartmentIdAndStatus(@Param("deptId") Long deptId,
-	                                                   @Param("status") TaskStatus status,
-	                                                   Pageable pageable);
-	
-	// 어드민: 부서별 필터 가능
-	Page<TaskEntity> findByIsDeletedFalseAndVisibilityAndWorkDepartment_Id(TaskVisibility visibility, Long deptId, Pageable pageable);
-	Page<TaskEntity> findByIsDeletedFalseAndVisibilityAndWorkDepartment_IdAndStatus(TaskVisibility visibility, Long deptId, TaskStatus status, Pageable pageable);
-	Page<TaskEntity> findByIsDeletedFalseAndVisibility(TaskVisibility visibility, Pageable pageable);
-	Page<TaskEntity> findByIsDeletedFalseAndVisibilityAndStatus(TaskVisibility visibility, TaskStatus status, Pageable pageable);
 
-	// 일반 사용자 private 조회 (작성자 OR 담당자)
-	@Query("""
-	    select t from TaskEntity t
-	    where t.isDeleted = false
-	      and ((t.visibility = :visibility and t.createdBy.id = :createdById)
-	           or (t.visibility = :visibility and t.assignee.id = :assigneeId))
-	""")
-	Page<TaskEntity> findVisiblePrivateForUser(@Param("visibility") TaskVisibility visibility,
-	                                           @Param("createdById") Long createdById,
-	                                           @Param("assigneeId") Long assigneeId,
-	                                           Pageable pageable);
-
-	@Query("""
-	    select t from TaskEntity t
-	    where t.isDeleted = false
-	      and ((t.visibility = :visibility and t.status = :status and t.createdBy.id = :createdById)
-	           or (t.visibility = :visibility and t.status = :status and t.assignee.id = :assigneeId))
-	""")
-	Page<TaskEntity> findVisiblePrivateForUserByStatus(@Param("visibility") TaskVisibility visibility,
-	                                                   @Param("status") TaskStatus status,
-	                                                   @Param("createdById") Long createdById,
-	                                                   @Param("assigneeId") Long assigneeId,
-	                                                   Pageable pageable);
-	
-	// ADMIN 전체 업무 우선순위 내림차순
-	@Query("""
-	    SELECT t FROM TaskEntity t
-	    WHERE t.isDeleted = false
-	      AND (:status IS NULL OR t.status = :status)
-	      AND (
-	          :scope = 'all' OR
-	          (:scope = 'public' AND t.visibility = 'PUBLIC') OR
-	          (:scope = 'team' AND t.workDepartment.id = :myDeptId) OR
-	          (:scope = 'created' AND t.createdBy.id = :userId) OR
-	          (:scope = 'assigned' AND t.assignee.id = :userId) OR
-	          (:scope = 'private' AND t.visibility = 'PRIVATE')
-	      )
-	    ORDER BY
-	      CASE t.priority
-	          WHEN 'HIGH' THEN 3
-	          WHEN 'MEDIUM' THEN 2
-	          WHEN 'LOW' THEN 1
-	          ELSE 0
-	      END DESC,
-	      t.createdAt DESC,
-	      t.id DESC
-	""")
-	Page<TaskEntity> findAllByPriorityMappedDesc(
-	        @Param("scope") String scope,
-	        @Param("status") TaskStatus status,
-	        @Param("userId") Long userId,
-	        @Param("deptId") Long deptId,
-	        @Param("myDeptId") Long myDeptId,
-	        Pageable pageable
-	);
-
-	// ADMIN 전체 업무 우선순위 오름차순
-	@Query("""
-	    SELECT t FROM TaskEntity t
-	    WHERE t.isDeleted = false
-	      AND (:status IS NULL OR t.status = :status)
-	      AND (:scope = 'all' OR
-	          (:scope = 'public' AND t.visibility = 'PUBLIC') OR
-	          (:scope = 'private' AND t.visibility = 'PRIVATE') OR
-	          (:scope = 'team' AND t.workDepartment.id = :myDeptId) OR
-	          (:scope = 'created' AND t.createdBy.id = :userId) OR
-	          (:scope = 'assigned' AND t.assignee.id = :userId)
-	      )
-	    ORDER BY
-	      CASE t.priority
-	          WHEN 'LOW' THEN 3
-	          WHEN 'MEDIUM' THEN 2
-	          WHEN 'HIGH' THEN 1
-	          ELSE 0
-	      END DESC,
-	      t.createdAt ASC,
-	      t.id ASC
-	""")
-	Page<TaskEntity> findAllByPriorityMappedAsc(
-	        @Param("scope") String scope,
-	        @Param("status") TaskStatus status,
-	        @Param("userId") Long userId,
-	        @Param("deptId") Long deptId,
-	        @Param("myDeptId") Long myDeptId,
-	        Pageable pageable
-	);
-
-	// 일반 사용자/팀장 우선순위 내림차순
-	@Query("""
-	    SELECT t 
-	    FROM TaskEntity t
-	    WHERE t.isDeleted = false
-	      AND (
-	            :scope = 'all' OR
-	            (:scope = 'public' AND t.visibility = 'PUBLIC') OR
-	            (:scope = 'team' AND t.visibility IN ('PUBLIC','DEPARTMENT') AND t.workDepartment.id = :deptId) OR
-	            (:scope = 'created' AND t.createdBy.id = :userId) OR
-	            (:scope = 'assigned' AND t.assignee.id = :userId) OR
-	            (:scope = 'private' AND t.visibility = 'PRIVATE' AND (t.createdBy.id = :userId OR t.assignee.id = :userId))
-	          )
-	      AND (:status IS NULL OR t.status = :status)
-	    ORDER BY
-	      CASE t.priority
-	        WHEN 'HIGH' THEN 3
-	        WHEN 'MEDIUM' THEN 2
-	        WHEN 'LOW' THEN 1
-	        ELSE 0
-	      END DESC,
-	      t.createdAt DESC,
-	      t.id DESC
-	""")
-	Page<TaskEntity> findVisibleTasksPriorityDesc(
-	        @Param("scope") String scope,
-	        @Param("status") TaskStatus status,
-	        @Param("userId") Long userId,
-	        @Param("deptId") Long deptId,
-	        Pageable pageable
-	);
-
-	// 일반 사용자/팀장 → priority 오름차순
-	@Query("""
-	    SELECT t 
-	    FROM TaskEntity t
-	    WHERE t.isDeleted = false
-	      AND (
-	            :scope = 'all' OR
-	            (:scope = 'public' AND t.visibility = 'PUBLIC') OR
-	            (:scope = 'team' AND t.visibility IN ('PUBLIC','DEPARTMENT') AND t.workDepartment.id = :deptId) OR
-	            (:scope = 'created' AND t.createdBy.id = :userId) OR
-	            (:scope = 'assigned' AND t.assignee.id = :userId) OR
-	            (:scope = 'private' AND t.visibility = 'PRIVATE' AND (t.createdBy.id = :userId OR t.assignee.id = :userId))
-	          )
-	      AND (:status IS NULL OR t.status = :status)
-	    ORDER BY
-	      CASE t.priority
-	        WHEN 'LOW' THEN 3
-	        WHEN 'MEDIUM' THEN 2
-	        WHEN 'HIGH' THEN 1
-	        ELSE 0
-	      END ASC,
-	      t.createdAt ASC,
-	      t.id ASC
-	""")
-	Page<TaskEntity> findVisibleTasksPriorityAsc(
-	        @Param("scope") String scope,
-	        @Param("status") TaskStatus status,
-	        @Param("userId") Long userId,
-	        @Param("deptId") Long deptId,
-	        Pageable pageable
-	);
-	    
-	    // 삭제된 업무(권한 포함)
-	    @Query("""
-	    	    SELECT t FROM TaskEntity t
-	    	    WHERE t.isDeleted = true
-	    	      AND (
-	    	           t.createdBy.id = :userId
-	    	        OR t.assignee.id = :userId
-	    	        OR (:deptId IS NOT NULL AND t.workDepartment.id = :deptId)
-	    	      )
-	    	""")
-	    	Page<TaskEntity> findDeletedVisibleForUser(@Param("userId") Long userId,
-	    	                                           @Param("deptId") Long deptId,
-	    	                                           Pageable pageable);
-	    
-	    @Query("""
-	    	    SELECT t FROM TaskEntity t
-	    	    WHERE t.isDeleted = true
-	    	      AND t.status = :status
-	    	      AND (
-	    	           t.createdBy.id = :userId
-	    	        OR t.assignee.id = :userId
-	    	        OR (:deptId IS NOT NULL AND t.workDepartment.id = :deptId)
-	    	      )
-	    	""")
-	    	Page<TaskEntity> findDeletedVisibleForUserByStatus(@Param("userId") Long userId,
-	    	                                                   @Param("deptId") Long deptId,
-	    	                                                   @Param("status") TaskStatus status,
-	    	                                                   Pageable pageable);
-	    
-	 // ADMIN 전체 삭제 조회
-	    @Query("SELECT t FROM TaskEntity t WHERE t.isDeleted = true")
-	    Page<TaskEntity> findAllDeleted(Pageable pageable);
+	// 현재 내용만 조회 (감사 로그 내용 복원용, 엔티티/연관 로딩 없이)
+	@Query("select t.description from TaskEntity t where t.id = :taskId")
+	Optional<String> findDescriptionById(@Param("taskId") Long taskId);
+
+	// 중요도 순위 보정: ddl-auto로 priority_rank 컬럼이 추가된 기존 DB는 전부 기본값(MEDIUM)으로 채워짐
+	// 값이 어긋난 row만 수정하므로 이미 맞춰진 DB에서는 변경 없음
+	@Modifying
+	@Transactional
+	@Query(value = """
+		UPDATE tasks
+		   SET priority_rank = CASE priority WHEN 'HIGH' THEN :high WHEN 'LOW' THEN :low ELSE :medium END
+		 WHERE priority_rank <> CASE priority WHEN 'HIGH' THEN :high WHEN 'LOW' THEN :low ELSE :medium END
+		""", nativeQuery = true)
+	int backfillPriorityRank(@Param("high") int high,
+							 @Param("medium") int medium,
+							 @Param("low") int low);
+
+	// 본문 이미지/영상 포함 여부 보정: has_image/has_video 컬럼 추가 전 데이터만 (null인 row)
+	@Modifying
+	@Transactional
+	@Query(value = """
+		UPDATE tasks
+		   SET has_image = COALESCE(description, '') ILIKE '%<img%',
+		       has_video = COALESCE(description, '') ILIKE '%<iframe%'
+		 WHERE has_image IS NULL OR has_video IS NULL
+		""", nativeQuery = true)
+	int backfillMediaFlags();
+
+	// 미리보기 문구 보정 대상: description_excerpt 컬럼 추가 전 데이터 (id 순으로 limit개씩)
+	// 평문 변환은 HtmlTextUtil 기준이라 SQL이 아닌 애플리케이션에서 계산
+	@Query(value = """
+		SELECT id, description
+		  FROM tasks
+		 WHERE description_excerpt IS NULL AND id > :afterId
+		 ORDER BY id
+		 LIMIT :limit
+		""", nativeQuery = true)
+	List<TaskDescriptionRow> findExcerptBackfillBatch(@Param("afterId") long afterId, @Param("limit") int limit);
+
+	// 미리보기 문구 보정 저장 (그 사이 업무가 수정되어 이미 채워졌으면 건너뜀)
+	@Modifying
+	@Query(value = "UPDATE tasks SET description_excerpt = :excerpt WHERE id = :id AND description_excerpt IS NULL",
+			nativeQuery = true)
+	int fillDescriptionExcerpt(@Param("id") Long id, @Param("excerpt") String excerpt);
+
+	// 업무 row 잠금 (SELECT ... FOR UPDATE, 트랜잭션 끝날 때까지 유지)
+	// 같은 업무에 동시에 첨부를 올릴 때 개수/총량 확인 + 저장을 한 번에 하나씩 처리
+	@Query(value = "SELECT id FROM tasks WHERE id = :taskId FOR UPDATE", nativeQuery = true)
+	Optional<Long> lockById(@Param("taskId") Long taskId);
 
-	    @Query("SELECT t FROM TaskEntity t WHERE t.isDeleted = true AND t.status = :status")
-	    Page<TaskEntity> findAllDeletedByStatus(@Param("status") TaskStatus status, Pageable pageable);
-	    
 }
@@ -0,0 +1,222 @@
+package com.workflow.tasks.repasitory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.workflow.favorite.entity.FavoriteEntity;
+import com.workflow.tasks.dto.TaskCursor;
+import com.workflow.tasks.dto.TaskSearchCondition;
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.enums.TaskScope;
+import com.workflow.tasks.enums.TaskSort;
+import com.workflow.tasks.enums.TaskVisibility;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// 업무 목록 동적 검색 조건 조립
+// scope/status/부서/공개범위/정렬 조합마다 메서드를 만들던 방식 대신
+// TaskSearchCondition 하나로 where + order by를 조립해서 쿼리 1개로 조회
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {} // 유틸 클래스이므로 인스턴스화 방지
+
+    public static Specification<TaskEntity> search(TaskSearchCondition c) {
+        return (root, query, cb) -> {
+
+            List<Predicate> where = new ArrayList<>();
+
+            Path<Long> createdById = root.get("createdBy").get("id");
+            Path<Long> assigneeId = root.get("assignee").get("id");
+            Path<Long> workDeptId = root.get("workDepartment").get("id");
+            Path<TaskVisibility> visibility = root.get("visibility");
+
+            // 삭제 탭만 삭제된 업무, 나머지는 살아있는 업무
+            where.add(cb.equal(root.get("isDeleted"), c.scope() == TaskScope.DELETED));
+
+            // 즐겨찾기 탭: favorites를 두 번째 root로 두고 task/user로 연결 (user_id, task_id 유니크라 중복 없음)
+            Root<FavoriteEntity> favorite = null;
+            if (c.scope() == TaskScope.FAVORITE) {
+                favorite = query.from(FavoriteEntity.class);
+                where.add(cb.equal(favorite.get("task").get("id"), root.get("id")));
+                where.add(cb.equal(favorite.get("user").get("id"), c.userId()));
+            }
+
+            // 상태 필터
+            if (c.statuses() != null && !c.statuses().isEmpty()) {
+                where.add(root.get("status").in(c.statuses()));
+            }
+
+            // 업무 부서 필터
+            if (c.deptId() != null) {
+                where.add(cb.equal(workDeptId, c.deptId()));
+            }
+
+            // 공개 범위 필터
+            if (c.visibility() != null) {
+                where.add(cb.equal(visibility, c.visibility()));
+            }
+
+            // scope별 조건 (관리자는 권한 조건 없이 범위만 적용)
+            Predicate mine = cb.or(
+                    cb.equal(createdById, c.userId()),
+                    cb.equal(assigneeId, c.userId())
+            );
+
+            switch (c.scope()) {
+                case ALL -> {
+                    // PUBLIC + (DEPARTMENT면 내 부서) + 내가 작성/담당
+                    if (!c.isAdmin()) {
+                        where.add(cb.or(
+                                mine,
+                                cb.equal(visibility, TaskVisibility.PUBLIC),
+                                cb.and(
+                                        cb.equal(visibility, TaskVisibility.DEPARTMENT),
+                                        cb.equal(workDeptId, c.myDeptId())
+                                )
+                        ));
+                    }
+                }
+                case TEAM -> {
+                    // 우리 팀 업무, PRIVATE는 작성자/담당자만 예외 허용
+                    where.add(cb.equal(workDeptId, c.myDeptId()));
+                    if (!c.isAdmin()) {
+                        where.add(cb.or(cb.notEqual(visibility, TaskVisibility.PRIVATE), mine));
+                    }
+                }
+                case CREATED -> where.add(cb.equal(createdById, c.userId()));
+                case ASSIGNED -> where.add(cb.equal(assigneeId, c.userId()));
+                case PRIVATE -> {
+                    if (!c.isAdmin()) where.add(mine);
+                }
+                case DELETED -> {
+                    // 작성자/담당자 + 팀장은 자기 부서 업무
+                    if (!c.isAdmin()) {
+                        where.add(c.isManager()
+                                ? cb.or(mine, cb.equal(workDeptId, c.myDeptId()))
+                                : mine);
+                    }
+                }
+                case PUBLIC, FAVORITE -> {
+                    // 공개 범위/즐겨찾기 조건은 위에서 처리
+                }
+            }
+
+            // 커서 페이징: 이전 페이지 마지막 row 다음부터
+            if (c.cursor() != null) {
+                where.add(after(c.cursor(), root, favorite, cb));
+            }
+
+            // count 쿼리에는 정렬 불필요
+            if (!isCountQuery(query.getResultType())) {
+                query.orderBy(orders(c.sort(), root, favorite, cb));
+            }
+
+            return cb.and(where.toArray(new Predicate[0]));
+        };
+    }
+
+    // 정렬 조건: 모든 정렬은 마지막에 id로 순서를 고정
+    private static List<Order> orders(TaskSort sort, Root<TaskEntity> root,
+                                      Root<FavoriteEntity> favorite, CriteriaBuilder cb) {
+
+        boolean asc = sort.isAscending();
+        List<Order> orders = new ArrayList<>();
+
+        switch (sort) {
+            // 즐겨찾기 탭의 등록일 정렬은 즐겨찾기 등록일 기준
+            case CREATED_AT_DESC, CREATED_AT_ASC -> {
+                Path<LocalDateTime> createdAt = (favorite != null)
+                        ? favorite.get("createdAt")
+                        : root.get("createdAt");
+                orders.add(order(cb, createdAt, asc));
+            }
+            case DUE_DATE_ASC, DUE_DATE_DESC -> orders.add(order(cb, root.get("dueDate"), asc));
+            case DELETED_AT_DESC, DELETED_AT_ASC -> orders.add(order(cb, root.get("deletedAt"), asc));
+            case PRIORITY_DESC, PRIORITY_ASC -> {
+                orders.add(order(cb, priorityRank(root), asc));
+                orders.add(order(cb, root.get("createdAt"), asc));
+            }
+        }
+
+        orders.add(order(cb, root.get("id"), asc));
+        return orders;
+    }
+
+    // keyset 조건: 정렬 순서상 커서 위치보다 뒤에 있는 row만
+    // (정렬 키, id) 튜플 비교를 OR/AND로 풀어서 인덱스 범위 조회가 가능하게 함
+    private static Predicate after(TaskCursor cursor, Root<TaskEntity> root,
+                                   Root<FavoriteEntity> favorite, CriteriaBuilder cb) {
+
+        boolean asc = cursor.sort().isAscending();
+        Path<Long> id = root.get("id");
+        Predicate idAfter = greater(cb, id, cursor.id(), asc);
+
+        return switch (cursor.sort()) {
+            case CREATED_AT_DESC, CREATED_AT_ASC -> {
+                Path<LocalDateTime> createdAt = (favorite != null)
+                        ? favorite.get("createdAt")
+                        : root.get("createdAt");
+                yield seek(cb, createdAt, cursor.time(), asc, idAfter);
+            }
+            case DUE_DATE_ASC, DUE_DATE_DESC ->
+                    seekNullable(cb, root.<LocalDate>get("dueDate"), cursor.date(), asc, idAfter);
+            case DELETED_AT_DESC, DELETED_AT_ASC ->
+                    seekNullable(cb, root.<LocalDateTime>get("deletedAt"), cursor.time(), asc, idAfter);
+            case PRIORITY_DESC, PRIORITY_ASC -> {
+                Path<Integer> rank = priorityRank(root);
+                Path<LocalDateTime> createdAt = root.get("createdAt");
+                yield cb.or(
+                        greater(cb, rank, cursor.rank(), asc),
+                        cb.and(cb.equal(rank, cursor.rank()), seek(cb, createdAt, cursor.time(), asc, idAfter))
+                );
+            }
+        };
+    }
+
+    // 정렬 방향 기준으로 "뒤에 있음" (asc면 >, desc면 <)
+    private static <T extends Comparable<? super T>> Predicate greater(CriteriaBuilder cb,
+                                                                      Expression<? extends T> x, T value, boolean asc) {
+        return asc ? cb.greaterThan(x, value) : cb.lessThan(x, value);
+    }
+
+    // (x, id) > (value, cursorId)
+    private static <T extends Comparable<? super T>> Predicate seek(CriteriaBuilder cb, Expression<? extends T> x,
+                                                                   T value, boolean asc, Predicate idAfter) {
+        return cb.or(greater(cb, x, value, asc), cb.and(cb.equal(x, value), idAfter));
+    }
+
+    // null 가능한 정렬 키 (dueDate, deletedAt)
+    // PostgreSQL 기본값: ASC면 NULL이 마지막, DESC면 NULL이 처음 → NULL을 가장 큰 값으로 취급
+    static <T extends Comparable<? super T>> Predicate seekNullable(CriteriaBuilder cb, Expression<? extends T> x,
+                                                                   T value, boolean asc, Predicate idAfter) {
+        if (value == null) {
+            Predicate sameNull = cb.and(cb.isNull(x), idAfter);
+            return asc ? sameNull : cb.or(sameNull, cb.isNotNull(x));
+        }
+        Predicate afterValue = seek(cb, x, value, asc, idAfter);
+        return asc ? cb.or(afterValue, cb.isNull(x)) : afterValue;
+    }
+
+    // 중요도 정렬은 priority_rank 컬럼 기준 (HIGH 3, MEDIUM 2, LOW 1)
+    private static Path<Integer> priorityRank(Root<TaskEntity> root) {
+        return root.get("priorityRank");
+    }
+
+    private static Order order(CriteriaBuilder cb, Expression<?> expression, boolean asc) {
+        return asc ? cb.asc(expression) : cb.desc(expression);
+    }
+
+    // Spring Data의 count 쿼리는 결과 타입이 Long
+    private static boolean isCountQuery(Class<?> resultType) {
+        return resultType == Long.class || resultType == long.class;
+    }
+}
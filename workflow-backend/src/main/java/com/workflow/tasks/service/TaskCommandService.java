@@ -2,8 +2,10 @@ package com.workflow.tasks.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -16,9 +18,12 @@ import com.workflow.audit.enums.AuditActionType;
 import com.workflow.audit.service.AuditLogService;
 import com.workflow.common.exception.ApiException;
 import com.workflow.common.exception.ErrorCode;
+import com.workflow.common.file.EditorContent;
 import com.workflow.common.file.FileStorageService;
+import com.workflow.common.upload.ImageVariantService;
 import com.workflow.department.entity.DepartmentEntity;
 import com.workflow.favorite.repository.FavoriteRepository;
+import com.workflow.tasks.dto.TaskCountSnapshot;
 import com.workflow.tasks.dto.TaskCreateRequest;
 import com.workflow.tasks.dto.TaskResponse;
 import com.workflow.tasks.dto.TaskUpdateRequest;
@@ -45,6 +50,9 @@ public class TaskCommandService {
     private final FileStorageService fileStorageService;
     private final AttachmentService attachmentService;
     private final FavoriteRepository favoriteRepository;
+    private final TaskKpiCache kpiCache;
+    private final TaskCounterService taskCounterService;
+    private final ImageVariantService imageVariantService;
 
     // 업무 작성
     public TaskResponse create(TaskCreateRequest req, Long loginUserId) {
@@ -104,9 +112,15 @@ public class TaskCommandService {
 
         taskRepository.save(task); // DB에 저장 후 ID 확보
 
+        // 작성자/담당자 카운터 +1
+        taskCounterService.taskChanged(task.getId(), null, TaskCountSnapshot.of(task));
+
         // 아이디 기반으로 tmp → final/{taskId} 이동 + 본문 URL 치환
-        String descriptionFinal = fileStorageService.commitEditorImagesInContent(task.getDescription(), "tasks", task.getId());
-        task.setDescription(descriptionFinal);
+        EditorContent committed = fileStorageService.commitEditorContent(task.getDescription(), "tasks", task.getId());
+        task.setDescription(committed.content());
+
+        // 본문 이미지 축소본(썸네일/중간 크기)은 커밋 후 백그라운드 생성
+        imageVariantService.generateAfterCommit(committed.images(), "tasks");
 
         // 수정된 description 재저장
         taskRepository.save(task);
@@ -130,6 +144,9 @@ public class TaskCommandService {
                 
         );
         
+        // 작성자/담당자 KPI 갱신
+        evictKpi(task, null, false);
+
 
         // DTO로 변환 후 반환
         return TaskResponse.from(task);
@@ -140,7 +157,7 @@ public class TaskCommandService {
     public TaskResponse update(Long taskId, TaskUpdateRequest req, Long loginUserId) {
         if (loginUserId == null) throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
 
-        TaskEntity task = taskRepository.findById(taskId)
+        TaskEntity task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다. id=" + taskId));
 
         UserEntity loginUser = userRepository.findById(loginUserId)
@@ -183,15 +200,18 @@ public class TaskCommandService {
         TaskVisibility oldVisibility = task.getVisibility();
         TaskPriority oldPriority = task.getPriority();
         TaskStatus oldStatus = task.getStatus();
+        TaskCountSnapshot beforeCount = TaskCountSnapshot.of(task); // 카운터 증감용
 
-        // 글 내용에 있는 사진 tmp → posts 이동 + URL 치환
-        String descriptionFinal =
-                fileStorageService.commitEditorImagesInContent(
+        // 글 내용에 있는 사진 tmp → posts 이동 + URL 치환 + 새 본문 이미지 목록 (본문 한 번만 훑음)
+        EditorContent committed =
+                fileStorageService.commitEditorContent(
                         req.description(),
                         "tasks",
                         task.getId()
                 );
 
+        String descriptionFinal = committed.content();
+
         if (descriptionFinal == null) {
             descriptionFinal = "";
         }
@@ -203,10 +223,10 @@ public class TaskCommandService {
         List<String> oldImages =
                 fileStorageService.extractImages(oldDescription);
 
-        List<String> newImages =
-                fileStorageService.extractImages(descriptionFinal);
+        fileStorageService.deleteEditorImages(oldImages, committed.images(), "tasks");
 
-        fileStorageService.deleteEditorImages(oldImages, newImages, "tasks");
+        // 본문 이미지 축소본(썸네일/중간 크기)은 커밋 후 백그라운드 생성 (이미 있으면 건너뜀)
+        imageVariantService.generateAfterCommit(committed.images(), "tasks");
 
         // 상태 전이 검증 처리
         TaskStatus newStatus = validateAndGetNewStatus(task, req.status(), loginUser);
@@ -222,6 +242,9 @@ public class TaskCommandService {
 
         taskRepository.save(task); // 업데이트 반영
 
+        // 상태/담당자 변경분만 카운터 반영
+        taskCounterService.taskChanged(task.getId(), beforeCount, TaskCountSnapshot.of(task));
+
         // 수정에서 추가/삭제된 첨부 조회
         List<AttachmentEntity> addedAttachments =
                 req.addedAttachmentIds() == null ? List.of()
@@ -249,6 +272,9 @@ public class TaskCommandService {
                 deletedAttachments
         );
 
+        // 상태/담당자가 바뀔 수 있으므로 이전 담당자 + 즐겨찾기한 사용자까지 KPI 갱신
+        evictKpi(task, oldAssigneeId, true);
+
         return TaskResponse.from(task);
     }
 
@@ -259,7 +285,7 @@ public class TaskCommandService {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
 
         // Task 조회
-        TaskEntity task = taskRepository.findById(taskId)
+        TaskEntity task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다. id=" + taskId));
 
         // 로그인 유저 조회
@@ -287,6 +313,7 @@ public class TaskCommandService {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "삭제 권한이 없습니다.");
 
         // Soft delete
+        TaskCountSnapshot beforeCount = TaskCountSnapshot.of(task); // 카운터 증감용
         task.setDeleted(true);
         task.setDeletedAt(LocalDateTime.now());
         taskRepository.save(task);
@@ -318,6 +345,10 @@ public class TaskCommandService {
         // 첨부파일 소프트 삭제
         attachmentService.softDelete(taskId, attachmentIds, loginUserId);
         
+        // 즐겨찾기 해제 전에 KPI 갱신 대상 확정 + 카운터 -1 (즐겨찾기 카운터 포함)
+        evictKpi(task, null, true);
+        taskCounterService.taskChanged(taskId, beforeCount, null);
+
         // 즐겨찾기 해제
         favoriteRepository.deleteByTaskId(taskId);
 
@@ -331,7 +362,7 @@ public class TaskCommandService {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
 
         // Task 조회
-        TaskEntity task = taskRepository.findById(taskId)
+        TaskEntity task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다. id=" + taskId));
 
         // 이미 삭제 안된 경우 방어
@@ -369,6 +400,9 @@ public class TaskCommandService {
         task.setDeletedAt(null);
         taskRepository.save(task);
 
+        // 작성자/담당자/즐겨찾기 카운터 +1
+        taskCounterService.taskChanged(taskId, null, TaskCountSnapshot.of(task));
+
         // 첨부파일 복구
         attachmentService.restore(taskId, loginUserId);
 
@@ -390,6 +424,9 @@ public class TaskCommandService {
                 null
         );
 
+        // 작성자/담당자 KPI 갱신 (삭제 시 즐겨찾기는 해제됐으므로 제외)
+        evictKpi(task, null, false);
+
         return TaskResponse.from(task);
     }
     
@@ -482,6 +519,17 @@ public class TaskCommandService {
         }
     }
     
+    // KPI 캐시 무효화: 작성자/담당자 (+ 이전 담당자, 즐겨찾기한 사용자)
+    private void evictKpi(TaskEntity task, Long oldAssigneeId, boolean includeFavoriteUsers) {
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(task.getCreatedBy().getId());
+        if (task.getAssignee() != null) userIds.add(task.getAssignee().getId());
+        if (oldAssigneeId != null) userIds.add(oldAssigneeId);
+        if (includeFavoriteUsers) userIds.addAll(favoriteRepository.findUserIdsByTaskId(task.getId()));
+
+        kpiCache.evict(userIds);
+    }
+
     // 내용 수정할때 동영상 삭제 문제로 마지막에 공백 추가했던거 저장할때 삭제하는 메서드
     // 문자열 끝에 붙은 <p><br></p> 전부 제거
     private String normalizeDescription(String description) {
@@ -0,0 +1,126 @@
+package com.workflow.tasks.service;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflow.favorite.repository.FavoriteRepository;
+import com.workflow.tasks.dto.TaskCountSnapshot;
+import com.workflow.tasks.entity.TaskCounterEntity;
+import com.workflow.tasks.enums.TaskCounterType;
+import com.workflow.tasks.enums.TaskStatus;
+import com.workflow.tasks.entity.TaskCounterStateEntity;
+import com.workflow.tasks.repasitory.TaskCounterRepository;
+import com.workflow.tasks.repasitory.TaskCounterStateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// task_counters 증감/조회/재계산
+// 증감은 호출한 쪽(업무/즐겨찾기 변경) 트랜잭션 안에서 같이 커밋
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TaskCounterService {
+
+    // 같은 순서로 row를 잠가야 동시 변경 시 데드락이 안 생김
+    private static final Comparator<CounterKey> KEY_ORDER = Comparator
+            .comparing(CounterKey::type)
+            .thenComparing(CounterKey::ownerId)
+            .thenComparing(CounterKey::status);
+
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskCounterStateRepository taskCounterStateRepository;
+    private final FavoriteRepository favoriteRepository;
+
+    // 업무 생성/수정/삭제/복구 반영
+    // before/after: 변경 전/후 스냅샷 (null = 카운트 대상 아님: 신규 생성 전, 삭제 상태)
+    // 즐겨찾기 카운터는 상태가 바뀌거나 삭제/복구될 때만 즐겨찾기한 사용자 조회
+    // 삭제 시에는 즐겨찾기 해제 전에 호출해야 함
+    public void taskChanged(Long taskId, TaskCountSnapshot before, TaskCountSnapshot after) {
+        if (Objects.equals(before, after)) return;
+
+        Map<CounterKey, Long> deltas = new TreeMap<>(KEY_ORDER);
+        collect(deltas, before, -1);
+        collect(deltas, after, 1);
+
+        TaskStatus beforeStatus = (before == null) ? null : before.status();
+        TaskStatus afterStatus = (after == null) ? null : after.status();
+        if (beforeStatus != afterStatus) {
+            for (Long userId : favoriteRepository.findUserIdsByTaskId(taskId)) {
+                if (beforeStatus != null) merge(deltas, TaskCounterType.FAVORITE, userId, beforeStatus, -1);
+                if (afterStatus != null) merge(deltas, TaskCounterType.FAVORITE, userId, afterStatus, 1);
+            }
+        }
+
+        write(deltas);
+    }
+
+    // 즐겨찾기 등록(+1)/해제(-1) 반영
+    public void favoriteChanged(Long userId, TaskStatus status, long delta) {
+        taskCounterRepository.add(TaskCounterType.FAVORITE.name(), userId, status.name(), delta);
+    }
+
+    // KPI 조회: 사용자 카운터 (counter_type → status → 개수)
+    @Transactional(readOnly = true)
+    public Map<TaskCounterType, Map<TaskStatus, Long>> read(Long userId) {
+        Map<TaskCounterType, Map<TaskStatus, Long>> result = new EnumMap<>(TaskCounterType.class);
+        for (TaskCounterType type : TaskCounterType.values()) {
+            result.put(type, new EnumMap<>(TaskStatus.class));
+        }
+
+        put(result, taskCounterRepository.findByOwnerIdAndCounterTypeIn(userId, EnumSet.allOf(TaskCounterType.class)));
+        return result;
+    }
+
+    // 재계산이 한 번이라도 끝났는지 (task_counter_state row 존재 여부)
+    @Transactional(readOnly = true)
+    public boolean isBuilt() {
+        return taskCounterStateRepository.existsById(TaskCounterStateEntity.SINGLETON_ID);
+    }
+
+    // 전체 재계산 (증감 누락/중복으로 생긴 오차 보정)
+    // 테이블 잠금 → 비우기 → 원본 집계로 다시 채우기를 한 트랜잭션에서 처리
+    public void rebuild() {
+        taskCounterRepository.lockForRebuild();
+        int deleted = taskCounterRepository.deleteAllCounters();
+        int inserted = taskCounterRepository.insertFromSource();
+        taskCounterStateRepository.markRebuilt();
+        log.info("[TaskCounter] 재계산 완료 - 삭제 {}건, 생성 {}건", deleted, inserted);
+    }
+
+    private void collect(Map<CounterKey, Long> deltas, TaskCountSnapshot s, long sign) {
+        if (s == null) return;
+        merge(deltas, TaskCounterType.CREATED, s.createdById(), s.status(), sign);
+        merge(deltas, TaskCounterType.ASSIGNED, s.assigneeId(), s.status(), sign);
+    }
+
+    private void merge(Map<CounterKey, Long> deltas, TaskCounterType type, Long ownerId, TaskStatus status, long delta) {
+        if (ownerId == null) return; // 담당자 없는 업무
+        deltas.merge(new CounterKey(type, ownerId, status), delta, Long::sum);
+    }
+
+    // 변경 전/후가 상쇄된 카운터(0)는 건너뜀
+    private void write(Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                taskCounterRepository.add(key.type().name(), key.ownerId(), key.status().name(), delta);
+            }
+        });
+    }
+
+    private void put(Map<TaskCounterType, Map<TaskStatus, Long>> result, Iterable<TaskCounterEntity> rows) {
+        for (TaskCounterEntity row : rows) {
+            result.get(row.getCounterType()).put(row.getStatus(), Math.max(0, row.getTaskCount()));
+        }
+    }
+
+    private record CounterKey(TaskCounterType type, Long ownerId, TaskStatus status) {}
+}
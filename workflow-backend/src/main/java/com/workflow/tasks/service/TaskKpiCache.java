@@ -0,0 +1,49 @@
+package com.workflow.tasks.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflow.common.cache.TtlCache;
+
+// 사용자별 KPI 캐시 (짧은 TTL, 최대 개수 제한)
+// 대시보드 새로고침마다 tasks/favorites 집계 쿼리가 나가지 않도록 잠깐 보관
+// 업무/즐겨찾기 변경 시 관련 사용자만 무효화
+@Component
+public class TaskKpiCache {
+
+    private final TtlCache<Long, Map<String, Map<String, Long>>> cache;
+
+    public TaskKpiCache(@Value("${app.kpi-cache.ttl-seconds:30}") long ttlSeconds,
+                        @Value("${app.kpi-cache.max-entries:10000}") int maxEntries) {
+        this.cache = new TtlCache<>(Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료됐으면 loader로 다시 조회
+    public Map<String, Map<String, Long>> get(Long userId, Supplier<Map<String, Map<String, Long>>> loader) {
+        return cache.get(userId, id -> loader.get());
+    }
+
+    // 사용자 KPI 무효화
+    // 트랜잭션 안이면 커밋 후에도 한 번 더 지움
+    // (커밋 전에 다른 요청이 옛 값으로 다시 채우는 경우 방어)
+    public void evict(Collection<Long> userIds) {
+        userIds.stream().filter(Objects::nonNull).forEach(cache::evict);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.stream().filter(Objects::nonNull).forEach(cache::evict);
+                }
+            });
+        }
+    }
+}
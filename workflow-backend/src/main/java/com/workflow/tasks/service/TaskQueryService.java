@@ -1,33 +1,48 @@
 package com.workflow.tasks.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.workflow.attachment.dto.AttachmentResponse;
 import com.workflow.attachment.service.AttachmentService;
+import com.workflow.common.dto.CursorResponse;
 import com.workflow.common.exception.ApiException;
 import com.workflow.common.exception.ErrorCode;
+import com.workflow.favorite.dto.FavoriteMark;
 import com.workflow.favorite.entity.FavoriteEntity;
 import com.workflow.favorite.repository.FavoriteRepository;
+import com.workflow.tasks.dto.TaskCursor;
+import com.workflow.tasks.dto.TaskListResponse;
+import com.workflow.tasks.dto.TaskListRow;
 import com.workflow.tasks.dto.TaskResponse;
+import com.workflow.tasks.dto.TaskSearchCondition;
 import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.enums.TaskCounterType;
+import com.workflow.tasks.enums.TaskScope;
+import com.workflow.tasks.enums.TaskSort;
 import com.workflow.tasks.enums.TaskStatus;
 import com.workflow.tasks.enums.TaskVisibility;
 import com.workflow.tasks.repasitory.TaskRepository;
-import com.workflow.user.entity.UserEntity;
-import com.workflow.user.enums.Role;
+import com.workflow.tasks.repasitory.TaskSpecifications;
+import com.workflow.user.dto.UserSnapshot;
 import com.workflow.user.repository.UserRepository;
+import com.workflow.user.service.UserDirectory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,280 +53,158 @@ public class TaskQueryService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
     private final FavoriteRepository favoriteRepository;
     private final AttachmentService attachmentService;
+    private final TaskKpiCache kpiCache;
+    private final TaskCounterService taskCounterService;
 
     // 업무 목록 조회
     @Transactional(readOnly = true)
-    public Page<TaskResponse> list(String scope, TaskStatus status, Long userId, Long deptId, int page, int size, String sort) {
+    public Page<TaskListResponse> list(String scope, TaskStatus status, Long userId, Long deptId, int page, int size, String sort) {
+
+        TaskSearchCondition condition = searchCondition(scope, status, userId, deptId, sort, null);
+        Specification<TaskEntity> spec = TaskSpecifications.search(condition);
+
+        // 정렬은 TaskSpecifications에서 처리하므로 Pageable에는 페이지 번호와 사이즈만 설정
+        Pageable pageable = PageRequest.of(
+                Math.max(page, 0),
+                Math.min(Math.max(size, 1), 9)
+        );
+
+        // 목록 projection 조회 (엔티티/본문 전체 로딩 없음)
+        List<TaskListRow> rows = taskRepository.findListRows(spec, pageable.getOffset(), pageable.getPageSize());
+
+        // TaskListRow → TaskListResponse 매핑, attachments count + 즐겨찾기 여부는 페이지 단위로 한 번에 조회
+        // 전체 개수는 마지막 페이지처럼 계산 가능한 경우 count 쿼리 생략
+        return PageableExecutionUtils.getPage(
+                toListResponses(rows, userId),
+                pageable,
+                () -> taskRepository.count(spec)
+        );
+    }
+
+    // 업무 목록 조회 (커서 방식, 무한 스크롤용)
+    // offset 대신 마지막 row 위치로 이어서 조회 → 깊은 페이지도 동일 비용, count 쿼리 없음
+    @Transactional(readOnly = true)
+    public CursorResponse<TaskListResponse> listByCursor(String scope, TaskStatus status, Long userId, Long deptId,
+                                                         int size, String sort, String cursor) {
+
+        TaskSearchCondition condition = searchCondition(scope, status, userId, deptId, sort, cursor);
+        int pageSize = Math.min(Math.max(size, 1), 9);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<TaskListRow> rows = taskRepository.findListRows(TaskSpecifications.search(condition), 0, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        List<TaskListResponse> content = toListResponses(rows, userId);
+
+        String nextCursor = hasNext
+                ? TaskCursor.of(condition.sort(), condition.scope() == TaskScope.FAVORITE, content.get(content.size() - 1)).encode()
+                : null;
+
+        return CursorResponse.of(content, pageSize, nextCursor);
+    }
+
+    // 요청 파라미터 + 로그인 사용자 정보 → 검색 조건
+    private TaskSearchCondition searchCondition(String scope, TaskStatus status, Long userId, Long deptId,
+                                                String sort, String cursor) {
 
         // 로그인 사용자 확인
         if (userId == null) {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        // 기본 scope 설정
-        if (scope == null || scope.isBlank()) scope = "all";
-        
-        // 삭제된 업무 탭이면 기본 정렬을 deletedAtDesc로
-        if ("deleted".equals(scope) && (sort == null || sort.isBlank())) {
-            // 삭제 탭은 기본값으로 최근순
-            sort = "deletedAtDesc";
-        } 
-
-        // priorityDesc, priorityAsc 여부 확인
-        boolean usePrioritySort = "priorityDesc".equals(sort) || "priorityAsc".equals(sort);
-
-        
-        // Pageable 객체 생성
-        
-        // "priorityDesc" 정렬일 경우, DB 쿼리에서 우선순위 정렬을 처리하기 때문에
-        // Pageable에는 Sort를 따로 지정하지 않고 페이지 번호와 사이즈만 설정
-        // 그 외의 sort 조건일 경우, Sort 객체를 생성해 PageRequest에 적용
-        Pageable pageable;
-        if (usePrioritySort) {
-            // 우선순위 정렬
-            Sort prioritySort = "priorityAsc".equals(sort)
-                    ? Sort.by(Sort.Order.asc("priority"), Sort.Order.asc("id")) // 낮은 순
-                    : Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("id")); // 높은 순
-
-            pageable = PageRequest.of(
-                    Math.max(page, 0),
-                    Math.min(Math.max(size, 1), 9),
-                    prioritySort
-            );
-        } else {
-            Sort sortObj = switch (sort) {
-                case "createdAtDesc" -> Sort.by(
-                        Sort.Order.desc("createdAt"),
-                        Sort.Order.desc("id")
-                );
-                case "createdAtAsc" -> Sort.by(
-                        Sort.Order.asc("createdAt"),
-                        Sort.Order.asc("id")
-                );
-                case "dueDateAsc" -> Sort.by(
-                        Sort.Order.asc("dueDate"),
-                        Sort.Order.desc("id")
-                );
-                case "dueDateDesc" -> Sort.by(
-                        Sort.Order.desc("dueDate"),
-                        Sort.Order.desc("id")
-                );
-                case "deletedAtDesc" -> Sort.by(
-                		Sort.Order.desc("deletedAt"),
-                		Sort.Order.desc("id")
-                );
-                case "deletedAtAsc"  -> Sort.by(
-                		Sort.Order.asc("deletedAt"),
-                		Sort.Order.asc("id")
-                );
-                default -> Sort.by(
-                        Sort.Order.desc("createdAt"),
-                        Sort.Order.desc("id")
-                );
-            };
-            pageable = PageRequest.of(
-                    Math.max(page, 0),
-                    Math.min(Math.max(size, 1), 9),
-                    sortObj
-            );
+        // scope 파싱 (비어 있으면 all)
+        TaskScope taskScope = TaskScope.from(scope);
+        if (taskScope == null) {
+            throw new ApiException(ErrorCode.BAD_REQUEST,
+                    "scope 값이 올바르지 않습니다. (all|public|team|created|assigned|favorite|deleted)");
         }
 
-        // 로그인 사용자 정보
-        UserEntity me = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
-        Long myDeptId = me.getDepartment().getId();
-
-        // 팀장 여부 (삭제된 업무 권한 분기용)
-        boolean isManager = me.getRole() == Role.MANAGER;
-
-        Page<TaskEntity> result;
-
-        if (usePrioritySort) {
-            // 우선순위 정렬
-        	
-        	if (scope.equals("favorite")) {
-                result = "priorityAsc".equals(sort)
-                        ? favoriteRepository.findFavoriteTasksPriorityAsc(status, userId, deptId, pageable)
-                        : favoriteRepository.findFavoriteTasksPriorityDesc(status, userId, deptId, pageable);
-            } else {
-        	 if (me.getRole() == Role.ADMIN) {
-        	        // ADMIN → 전체 업무 우선순위 정렬
-        	        result = "priorityAsc".equals(sort)
-        	                ? taskRepository.findAllByPriorityMappedAsc(scope, status, userId, deptId, myDeptId, pageable)
-        	                : taskRepository.findAllByPriorityMappedDesc(scope, status, userId, deptId, myDeptId, pageable);
-        	    } else {
-        	        // 일반 사용자/팀장 → 자신이 볼 수 있는 업무만 우선순위 정렬
-        	        result = "priorityAsc".equals(sort)
-        	                ? taskRepository.findVisibleTasksPriorityAsc(scope, status, userId, deptId, pageable)
-        	                : taskRepository.findVisibleTasksPriorityDesc(scope, status, userId, deptId, pageable);
-        	    }
+        // 삭제된 업무 탭이면 기본 정렬을 deletedAtDesc로
+        TaskSort taskSort = (taskScope == TaskScope.DELETED && (sort == null || sort.isBlank()))
+                ? TaskSort.DELETED_AT_DESC
+                : TaskSort.from(sort);
+
+        // 커서는 같은 정렬 기준으로 만든 것만 허용 (빈 값이면 첫 페이지)
+        TaskCursor taskCursor = null;
+        if (cursor != null && !cursor.isBlank()) {
+            taskCursor = TaskCursor.decode(cursor);
+            if (taskCursor.sort() != taskSort) {
+                throw new ApiException(ErrorCode.BAD_REQUEST, "cursor의 정렬 기준이 요청과 다릅니다.");
             }
-        } else {
-            // 일반 scope 기반 조회
-            if (me.getRole() == Role.ADMIN) {
-                Long targetDeptId = deptId;
-
-                switch(scope) {
-                    case "all" -> {
-                        if (targetDeptId != null) {
-                            result = (status == null)
-                                ? taskRepository.findByWorkDepartment_IdAndIsDeletedFalse(targetDeptId, pageable)
-                                : taskRepository.findByWorkDepartment_IdAndStatusAndIsDeletedFalse(targetDeptId, status, pageable);
-                        } else {
-                            result = (status == null)
-                                ? taskRepository.findByIsDeletedFalse(pageable)
-                                : taskRepository.findByIsDeletedFalseAndStatus(status, pageable);
-                        }
-                    }
-
-                    case "public" -> {
-                        if (targetDeptId != null) {
-                            result = (status == null)
-                                ? taskRepository.findPublicByDepartmentId(targetDeptId, pageable)
-                                : taskRepository.findPublicByDepartmentIdAndStatus(targetDeptId, status, pageable);
-                        } else {
-                            result = (status == null)
-                                ? taskRepository.findPublicOnly(pageable)
-                                : taskRepository.findPublicOnlyByStatus(status, pageable);
-                        }
-                    }
-
-                    case "team" -> {
-                        result = (status == null)
-                            ? taskRepository.findByWorkDepartment_IdAndIsDeletedFalse(myDeptId, pageable)
-                            : taskRepository.findByWorkDepartment_IdAndStatusAndIsDeletedFalse(myDeptId, status, pageable);
-                    }
-
-                    case "created" -> {
-                        result = (status == null)
-                            ? taskRepository.findByIsDeletedFalseAndCreatedBy_Id(userId, pageable)
-                            : taskRepository.findByIsDeletedFalseAndCreatedBy_IdAndStatus(userId, status, pageable);
-                    }
-
-                    case "assigned" -> {
-                        result = (status == null)
-                            ? taskRepository.findByIsDeletedFalseAndAssignee_Id(userId, pageable)
-                            : taskRepository.findByIsDeletedFalseAndAssignee_IdAndStatus(userId, status, pageable);
-                    }
-
-                    case "private" -> {
-                        if (targetDeptId != null) {
-                            result = (status == null)
-                                ? taskRepository.findByIsDeletedFalseAndVisibilityAndWorkDepartment_Id(TaskVisibility.PRIVATE, targetDeptId, pageable)
-                                : taskRepository.findByIsDeletedFalseAndVisibilityAndWorkDepartment_IdAndStatus(TaskVisibility.PRIVATE, targetDeptId, status, pageable);
-                        } else {
-                            result = (status == null)
-                                ? taskRepository.findByIsDeletedFalseAndVisibility(TaskVisibility.PRIVATE, pageable)
-                                : taskRepository.findByIsDeletedFalseAndVisibilityAndStatus(TaskVisibility.PRIVATE, status, pageable);
-                        }
-                    }
-
-                    case "favorite" -> {
-                        // 삭제된 업무는 즐겨찾기 대상이 아니므로 방어
-                        if (status == null) {
-                            result = switch(sort) {
-                                case "createdAtAsc" -> favoriteRepository.findFavoriteTasksOrderByCreatedAtAsc(userId, deptId, pageable);
-                                case "dueDateAsc" -> favoriteRepository.findFavoriteTasksOrderByDueDateAsc(userId, deptId, pageable);
-                                case "dueDateDesc" -> favoriteRepository.findFavoriteTasksOrderByDueDateDesc(userId, deptId, pageable);
-                                default -> favoriteRepository.findFavoriteTasksOrderByCreatedAtDesc(userId, deptId, pageable);
-                            };
-                        } else {
-                            result = switch(sort) {
-                                case "createdAtAsc" -> favoriteRepository.findFavoriteTasksByStatusOrderByCreatedAtAsc(userId, status, deptId, pageable);
-                                case "dueDateAsc" -> favoriteRepository.findFavoriteTasksOrderByDueDateAsc(userId, deptId, pageable);
-                                case "dueDateDesc" -> favoriteRepository.findFavoriteTasksOrderByDueDateDesc(userId, deptId, pageable);
-                                default -> favoriteRepository.findFavoriteTasksByStatusOrderByCreatedAtDesc(userId, status, deptId, pageable);
-                            };
-                        }
-                    }
-
-                    case "deleted" -> {
-                        // ADMIN은 전체 삭제 조회 가능
-                        result = (status == null)
-                            ? taskRepository.findAllDeleted(pageable)
-                            : taskRepository.findAllDeletedByStatus(status, pageable);
-                    }
-
-                    default -> throw new ApiException(ErrorCode.BAD_REQUEST,
-                            "scope 값이 올바르지 않습니다. (all|public|team|created|assigned|favorite|deleted)");
-                }
+        }
 
-            } else {
-                // 일반 사용자/팀장
-                switch (scope) {
-                    case "all" -> result = (status == null)
-                            ? taskRepository.findAllVisibleForUser(userId, myDeptId, pageable)
-                            : taskRepository.findAllVisibleForUserByStatus(userId, myDeptId, status, pageable);
-
-                    case "public" -> result = (status == null)
-                            ? taskRepository.findPublicOnly(pageable)
-                            : taskRepository.findPublicOnlyByStatus(status, pageable);
-
-                    case "team" -> result = (status == null)
-                            ? taskRepository.findTeamVisibleForUser(userId, myDeptId, pageable)
-                            : taskRepository.findTeamVisibleForUserByStatus(userId, myDeptId, status, pageable);
-
-                    case "created" -> result = (status == null)
-                            ? taskRepository.findByIsDeletedFalseAndCreatedBy_Id(userId, pageable)
-                            : taskRepository.findByIsDeletedFalseAndCreatedBy_IdAndStatus(userId, status, pageable);
-
-                    case "assigned" -> result = (status == null)
-                            ? taskRepository.findByIsDeletedFalseAndAssignee_Id(userId, pageable)
-                            : taskRepository.findByIsDeletedFalseAndAssignee_IdAndStatus(userId, status, pageable);
-
-                    case "private" -> result = (status == null)
-                            ? taskRepository.findVisiblePrivateForUser(TaskVisibility.PRIVATE, userId, userId, pageable)
-                            : taskRepository.findVisiblePrivateForUserByStatus(TaskVisibility.PRIVATE, status, userId, userId, pageable);
-
-                    case "favorite" -> {
-                        // 삭제된 업무는 즐겨찾기 대상이 아니므로 방어
-                        if (status == null) {
-                            result = switch(sort) {
-                                case "createdAtAsc" -> favoriteRepository.findFavoriteTasksOrderByCreatedAtAsc(userId, deptId, pageable);
-                                case "dueDateAsc" -> favoriteRepository.findFavoriteTasksOrderByDueDateAsc(userId, deptId, pageable);
-                                case "dueDateDesc" -> favoriteRepository.findFavoriteTasksOrderByDueDateDesc(userId, deptId, pageable);
-                                default -> favoriteRepository.findFavoriteTasksOrderByCreatedAtDesc(userId, deptId, pageable);
-                            };
-                        } else {
-                            result = switch(sort) {
-                                case "createdAtAsc" -> favoriteRepository.findFavoriteTasksByStatusOrderByCreatedAtAsc(userId, status, deptId, pageable);
-                                case "dueDateAsc" -> favoriteRepository.findFavoriteTasksOrderByDueDateAsc(userId, deptId, pageable);
-                                case "dueDateDesc" -> favoriteRepository.findFavoriteTasksOrderByDueDateDesc(userId, deptId, pageable);
-                                default -> favoriteRepository.findFavoriteTasksByStatusOrderByCreatedAtDesc(userId, status, deptId, pageable);
-                            };
-                        }
-                    }
-
-                    case "deleted" -> result = (status == null)
-                            ? taskRepository.findDeletedVisibleForUser(userId, isManager ? myDeptId : null, pageable)
-                            : taskRepository.findDeletedVisibleForUserByStatus(userId, isManager ? myDeptId : null, status, pageable);
-
-                    default -> throw new ApiException(ErrorCode.BAD_REQUEST,
-                            "scope 값이 올바르지 않습니다. (all|public|team|created|assigned|favorite|deleted)");
-                }
-            }
+        // 로그인 사용자 정보 (디렉터리 캐시)
+        UserSnapshot me = userDirectory.requireUser(userId);
+        boolean isAdmin = me.isAdmin();
+
+        // 부서 필터: 어드민의 전체/전사/개인 탭, 즐겨찾기 탭에서만 적용
+        boolean deptFilterAllowed = switch (taskScope) {
+            case ALL, PUBLIC, PRIVATE -> isAdmin;
+            case FAVORITE -> true;
+            default -> false;
+        };
+
+        // 전사/개인 탭은 공개 범위 필터로 처리
+        TaskVisibility visibility = switch (taskScope) {
+            case PUBLIC -> TaskVisibility.PUBLIC;
+            case PRIVATE -> TaskVisibility.PRIVATE;
+            default -> null;
+        };
+
+        return TaskSearchCondition.builder()
+                .scope(taskScope)
+                .statuses(status == null ? Set.of() : EnumSet.of(status))
+                .deptId(deptFilterAllowed ? deptId : null)
+                .visibility(visibility)
+                .sort(taskSort)
+                .cursor(taskCursor)
+                .userId(userId)
+                .myDeptId(me.departmentId())
+                .role(me.role())
+                .build();
+    }
+
+    // 목록 페이지 후처리
+    // 페이지 안의 taskId를 모아서 첨부 개수/즐겨찾기 여부를 묶음 쿼리로 조회한 뒤 메모리에서 매핑
+    // (row마다 count/즐겨찾기 쿼리를 날리면 페이지 크기만큼 왕복이 늘어남)
+    private List<TaskListResponse> toListResponses(List<TaskListRow> rows, Long userId) {
+
+        if (rows.isEmpty()) {
+            return List.of();
         }
 
-        // TaskEntity → TaskResponse 매핑, attachments count만 포함
-        return result.map(t -> {
-            long cnt;
-            if (t.isDeleted()) {
-                // 삭제된 업무도 포함
-                cnt = attachmentService.countByTaskIncludingDeleted(t.getId());
-            } else {
-                cnt = attachmentService.countActiveByTask(t.getId());
-            }
-            
-            // 즐겨찾기 엔티티 조회
-            Optional<FavoriteEntity> favOpt = favoriteRepository.findByUserAndTask(me, t);
-            boolean isFavorite = favOpt.isPresent();
-            LocalDateTime favoriteCreatedAt = favOpt.map(FavoriteEntity::getCreatedAt).orElse(null);
-
-            // TaskResponse DTO 반환, attachmentsCount + 즐겨찾기 여부 + 즐겨찾기 등록일
-            return TaskResponse.from(t, List.of(), cnt, isFavorite, favoriteCreatedAt);
-        });
+        // 삭제된 업무는 삭제된 첨부까지 포함해서 개수 표시
+        List<Long> activeTaskIds = new ArrayList<>();
+        List<Long> deletedTaskIds = new ArrayList<>();
+        for (TaskListRow r : rows) {
+            if (Boolean.TRUE.equals(r.deleted())) deletedTaskIds.add(r.id());
+            else activeTaskIds.add(r.id());
+        }
+
+        Map<Long, Long> attachmentCounts = new HashMap<>();
+        attachmentCounts.putAll(attachmentService.countActiveByTasks(activeTaskIds));
+        attachmentCounts.putAll(attachmentService.countByTasksIncludingDeleted(deletedTaskIds));
+
+        // 내 즐겨찾기 (taskId → 즐겨찾기 등록일)
+        List<Long> taskIds = rows.stream().map(TaskListRow::id).toList();
+        Map<Long, LocalDateTime> favorites = new HashMap<>();
+        for (FavoriteMark mark : favoriteRepository.findMarksByUserIdAndTaskIds(userId, taskIds)) {
+            favorites.put(mark.taskId(), mark.createdAt());
+        }
+
+        // TaskListResponse DTO 반환, attachmentsCount + 즐겨찾기 여부 + 즐겨찾기 등록일
+        return rows.stream()
+                .map(r -> TaskListResponse.from(
+                        r,
+                        attachmentCounts.getOrDefault(r.id(), 0L),
+                        favorites.containsKey(r.id()),
+                        favorites.get(r.id())
+                ))
+                .toList();
     }
 
     // 업무 상세 조회
@@ -322,20 +215,19 @@ public class TaskQueryService {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        // 사용자 부서 ID
-        UserEntity me = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
-        Long myDeptId = me.getDepartment().getId();
+        // 사용자 부서 ID (디렉터리 캐시)
+        UserSnapshot me = userDirectory.requireUser(userId);
+        Long myDeptId = me.departmentId();
 
         // Task 조회 (삭제 포함 전체 조회)
-        TaskEntity task = taskRepository.findById(taskId)
+        TaskEntity task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
 
         // 삭제된 업무 여부 체크
         if (task.isDeleted()) {
 
             // 관리자면 전체 조회 가능
-            if (me.getRole() != Role.ADMIN) {
+            if (!me.isAdmin()) {
 
                 // 권한 체크 (작성자 / 담당자 / 같은 부서)
                 boolean hasPermission =
@@ -352,7 +244,7 @@ public class TaskQueryService {
         } else {
 
             // 삭제 안된 업무 → 기존 접근 제어 유지
-            if (me.getRole() != Role.ADMIN) {
+            if (!me.isAdmin()) {
                 taskRepository.findDetailVisibleForUser(taskId, userId, myDeptId)
                         .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "업무를 찾을 수 없습니다."));
             }
@@ -364,8 +256,8 @@ public class TaskQueryService {
                 ? attachmentService.listAllByTaskIncludingDeleted(taskId)
                 : attachmentService.listByTask(taskId);
 
-        // 즐겨찾기 엔티티 조회
-        Optional<FavoriteEntity> favOpt = favoriteRepository.findByUserAndTask(me, task);
+        // 즐겨찾기 엔티티 조회 (사용자는 id만 필요하므로 프록시 참조)
+        Optional<FavoriteEntity> favOpt = favoriteRepository.findByUserAndTask(userRepository.getReferenceById(userId), task);
         boolean isFavorite = favOpt.isPresent();
         LocalDateTime favoriteCreatedAt = favOpt.map(FavoriteEntity::getCreatedAt).orElse(null);
 
@@ -374,33 +266,29 @@ public class TaskQueryService {
     }
 
     // KPI 출력 + 즐겨찾기 추가
+    // task_counters 키 조회로 담당/작성/즐겨찾기 상태별 개수 반환 (COUNT 집계 없음)
+    // 대시보드 탭(내 업무/내가 만든 업무/즐겨찾기) 배지 합계도 이 값으로 계산
+    // 결과는 사용자별로 짧게 캐시, 업무/즐겨찾기 변경 시 무효화
     public Map<String, Map<String, Long>> kpi(Long userId) {
+        return kpiCache.get(userId, () -> {
+            Map<TaskCounterType, Map<TaskStatus, Long>> counters = taskCounterService.read(userId);
 
-        Map<String, Long> assigned = new LinkedHashMap<>();
-        Map<String, Long> created = new LinkedHashMap<>();
-        Map<String, Long> favorite = new LinkedHashMap<>();
-        // LinkedHashMap: 삽입 순서 유지 (출력 순서 일관성)
+            return Map.of(
+                    "assigned", toStatusMap(counters.get(TaskCounterType.ASSIGNED)), // 내가 담당한 업무
+                    "created", toStatusMap(counters.get(TaskCounterType.CREATED)),   // 내가 생성한 업무
+                    "favorite", toStatusMap(counters.get(TaskCounterType.FAVORITE))  // 내가 즐겨찾기한 업무
+            );
+        });
+    }
 
+    // 카운터 → 상태별 Map (없는 상태는 0)
+    // LinkedHashMap: 삽입 순서 유지 (출력 순서 일관성)
+    private Map<String, Long> toStatusMap(Map<TaskStatus, Long> counts) {
+        Map<String, Long> out = new LinkedHashMap<>();
         for (TaskStatus status : EnumSet.allOf(TaskStatus.class)) {
-            // 내가 담당한 업무
-            assigned.put(status.name(),
-                    taskRepository.countByIsDeletedFalseAndAssignee_IdAndStatus(userId, status));
-
-            // 내가 생성한 업무
-            created.put(status.name(),
-                    taskRepository.countByIsDeletedFalseAndCreatedBy_IdAndStatus(userId, status));
-
-            // 내가 즐겨찾기한 업무 (status 기준으로 카운트)
-            favorite.put(status.name(),
-            		favoriteRepository.countByUserIdAndStatus(userId, status));
-            // countByIsDeletedFalseAndFavorites_UserIdAndStatus는 repository에 맞게 정의 필요
+            out.put(status.name(), counts.getOrDefault(status, 0L));
         }
-
-        return Map.of(
-                "assigned", assigned,
-                "created", created,
-                "favorite", favorite
-        );
+        return Collections.unmodifiableMap(out); // 캐시에 공유되므로 읽기 전용
     }
 
 }
@@ -0,0 +1,41 @@
+package com.workflow.user.controller;
+
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.workflow.user.dto.DirectoryCacheStats;
+import com.workflow.user.service.UserDirectory;
+
+import lombok.RequiredArgsConstructor;
+
+// 사용자/부서 디렉터리 캐시 관리 (관리자 전용, /api/admin/** 은 ADMIN 권한 필요)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/directory-cache")
+public class DirectoryCacheController {
+
+	private final UserDirectory userDirectory;
+
+	// 적중/미스/제거 횟수, 현재 캐시 크기
+	@GetMapping
+	public DirectoryCacheStats stats() {
+		return userDirectory.stats();
+	}
+
+	// 전체 무효화 (DB를 직접 수정한 경우 등)
+	@DeleteMapping
+	public DirectoryCacheStats evictAll() {
+		userDirectory.evictAll();
+		return userDirectory.stats();
+	}
+
+	// 사용자 한 명 무효화 (DB에서 권한/부서를 직접 바꾼 경우, 다음 요청부터 새 권한 적용)
+	@DeleteMapping("/users/{userId}")
+	public DirectoryCacheStats evictUser(@PathVariable Long userId) {
+		userDirectory.evictUser(userId);
+		return userDirectory.stats();
+	}
+}
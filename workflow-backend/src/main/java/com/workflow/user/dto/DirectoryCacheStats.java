@@ -0,0 +1,11 @@
+package com.workflow.user.dto;
+
+// 사용자/부서 디렉터리 캐시 통계 (관리자 조회용)
+public record DirectoryCacheStats(
+        long hits,             // 캐시 적중 횟수
+        long misses,           // 캐시 미스 (DB 조회) 횟수
+        long evictions,        // 만료/용량 초과/명시적 무효화로 제거된 항목 수
+        int userEntries,       // 현재 캐시된 사용자 수
+        int departmentEntries, // 현재 캐시된 부서 수
+        double hitRatio        // 적중률 (0~1)
+) {}
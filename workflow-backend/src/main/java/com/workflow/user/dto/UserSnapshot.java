@@ -0,0 +1,41 @@
+package com.workflow.user.dto;
+
+import com.workflow.department.entity.DepartmentEntity;
+import com.workflow.user.entity.UserEntity;
+import com.workflow.user.enums.Role;
+
+// 사용자 캐시용 불변 스냅샷
+// 권한 체크/이름 표시에 필요한 값만 보관 (비밀번호, 접속 상태 등 자주 바뀌거나 민감한 값 제외)
+public record UserSnapshot(
+        Long id,               // 사용자 ID
+        String email,          // 이메일
+        String name,           // 이름
+        String position,       // 직책
+        Role role,             // 권한
+        Long departmentId,     // 소속 부서 ID
+        String departmentName, // 소속 부서명
+        String departmentCode  // 소속 부서 코드
+) {
+
+    public static UserSnapshot from(UserEntity u) {
+        DepartmentEntity d = u.getDepartment();
+        return new UserSnapshot(
+                u.getId(),
+                u.getEmail(),
+                u.getName(),
+                u.getPosition(),
+                u.getRole(),
+                d != null ? d.getId() : null,
+                d != null ? d.getName() : null,
+                d != null ? d.getCode() : null
+        );
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    public boolean isManager() {
+        return role == Role.MANAGER;
+    }
+}
@@ -1,8 +1,10 @@
 package com.workflow.user.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -25,8 +27,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 	
 	// 부서 ID로 사용자 조회
     List<UserEntity> findByDepartment_Id(Long departmentId);
-	
-	
-	
-	
+
+	// 디렉터리 캐시 적재용: 사용자 + 소속 부서 한 번에 조회
+	@EntityGraph(attributePaths = "department")
+	Optional<UserEntity> findWithDepartmentById(Long id);
+
+	// 디렉터리 캐시 일괄 적재용: 여러 사용자 + 소속 부서 한 번에 조회
+	@EntityGraph(attributePaths = "department")
+	List<UserEntity> findWithDepartmentByIdIn(Collection<Long> ids);
 }
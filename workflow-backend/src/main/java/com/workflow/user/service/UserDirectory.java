@@ -0,0 +1,143 @@
+package com.workflow.user.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.workflow.common.cache.TtlCache;
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+import com.workflow.department.dto.DepartmentSnapshot;
+import com.workflow.department.repository.DepartmentRepository;
+import com.workflow.user.dto.DirectoryCacheStats;
+import com.workflow.user.dto.UserSnapshot;
+import com.workflow.user.entity.UserEntity;
+import com.workflow.user.repository.UserRepository;
+
+// 사용자/부서 디렉터리 캐시 (프로세스 내, TTL + 최대 개수 제한, 가득 차면 LRU 제거)
+// 서비스 메서드마다 로그인 사용자 권한/부서 확인용으로 userRepository.findById를 호출하던 것을 대체
+// 엔티티 대신 불변 스냅샷을 보관하므로 트랜잭션/영속성 컨텍스트와 무관하게 공유 가능
+// 사용자 권한/부서, 부서명/코드 변경 시 evictUser/evictDepartment로 즉시 무효화
+@Component
+public class UserDirectory {
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+
+    private final TtlCache<Long, UserSnapshot> users;
+    private final TtlCache<Long, DepartmentSnapshot> departments;
+
+    public UserDirectory(UserRepository userRepository,
+                         DepartmentRepository departmentRepository,
+                         @Value("${app.directory-cache.ttl-seconds:300}") long ttlSeconds,
+                         @Value("${app.directory-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.users = new TtlCache<>(Duration.ofSeconds(ttlSeconds), maxEntries);
+        this.departments = new TtlCache<>(Duration.ofSeconds(ttlSeconds), maxEntries);
+    }
+
+    // 사용자 조회 (없는 사용자는 캐시하지 않음)
+    public Optional<UserSnapshot> findUser(Long userId) {
+        if (userId == null) return Optional.empty();
+        return Optional.ofNullable(users.get(userId, id -> userRepository.findWithDepartmentById(id)
+                .map(UserSnapshot::from)
+                .orElse(null)));
+    }
+
+    // 여러 사용자 조회 (캐시에 없는 사용자만 한 번의 쿼리로 적재), 없는 사용자는 결과에서 빠짐
+    public Map<Long, UserSnapshot> findUsers(Collection<Long> userIds) {
+
+        Map<Long, UserSnapshot> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long id : userIds) {
+            if (id == null || found.containsKey(id)) continue;
+            UserSnapshot cached = users.getIfPresent(id);
+            if (cached != null) found.put(id, cached);
+            else missing.add(id);
+        }
+
+        if (!missing.isEmpty()) {
+            for (UserEntity entity : userRepository.findWithDepartmentByIdIn(missing)) {
+                UserSnapshot u = UserSnapshot.from(entity);
+                users.put(u.id(), u);
+                found.put(u.id(), u);
+            }
+        }
+
+        return found;
+    }
+
+    // 로그인 사용자 조회, 없으면 401
+    public UserSnapshot requireUser(Long userId) {
+        return findUser(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "사용자가 존재하지 않습니다."));
+    }
+
+    // 부서 조회 (없는 부서는 캐시하지 않음)
+    public Optional<DepartmentSnapshot> findDepartment(Long departmentId) {
+        if (departmentId == null) return Optional.empty();
+        return Optional.ofNullable(departments.get(departmentId, id -> departmentRepository.findById(id)
+                .map(DepartmentSnapshot::from)
+                .orElse(null)));
+    }
+
+    // 사용자 무효화 (권한/부서/이름 변경 시)
+    public void evictUser(Long userId) {
+        if (userId == null) return;
+        afterCommitToo(() -> users.evict(userId));
+    }
+
+    // 부서 무효화 (부서명/코드 변경 시), 소속 사용자 스냅샷의 부서명도 같이 무효화
+    public void evictDepartment(Long departmentId) {
+        if (departmentId == null) return;
+        afterCommitToo(() -> {
+            departments.evict(departmentId);
+            users.evictValues(u -> departmentId.equals(u.departmentId()));
+        });
+    }
+
+    // 전체 무효화
+    public void evictAll() {
+        afterCommitToo(() -> {
+            users.clear();
+            departments.clear();
+        });
+    }
+
+    // 통계 (사용자/부서 합산)
+    public DirectoryCacheStats stats() {
+        long h = users.hits() + departments.hits();
+        long m = users.misses() + departments.misses();
+        return new DirectoryCacheStats(
+                h, m, users.evictions() + departments.evictions(),
+                users.size(), departments.size(),
+                (h + m) == 0 ? 0 : (double) h / (h + m)
+        );
+    }
+
+    // 지금 바로 지우고, 트랜잭션 안이면 커밋 후에도 한 번 더 지움
+    // (커밋 전에 다른 요청이 옛 값으로 다시 채우는 경우 방어)
+    private void afterCommitToo(Runnable evict) {
+        evict.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
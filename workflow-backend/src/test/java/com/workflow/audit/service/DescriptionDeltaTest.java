@@ -0,0 +1,168 @@
+package com.workflow.audit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// 변경분 인코딩 → 복원 왕복 확인 (diff / diffOrReplace / apply)
+class DescriptionDeltaTest {
+
+    private static final String BASE = "<p>회의록 초안입니다. 참석자: 김대리, 이과장</p><p>다음 회의는 3월 5일</p>";
+
+    @Test
+    void smallEditRoundTrips() {
+        String after = "<p>회의록 최종본입니다. 참석자: 김대리, 이과장, 박부장</p><p>다음 회의는 3월 5일</p>";
+
+        String delta = DescriptionDelta.diff(BASE, after);
+
+        assertNotNull(delta);
+        assertTrue(delta.length() < after.length());
+        assertEquals(after, DescriptionDelta.apply(BASE, delta));
+    }
+
+    @Test
+    void unchangedContentRoundTrips() {
+        assertEquals(BASE, DescriptionDelta.apply(BASE, DescriptionDelta.diffOrReplace(BASE, BASE)));
+    }
+
+    @Test
+    void emptyInputsRoundTrip() {
+        assertRoundTrip("", "");
+        assertRoundTrip("", BASE);
+        assertRoundTrip(BASE, "");
+    }
+
+    @Test
+    void nullInputsAreTreatedAsEmpty() {
+        // 이전/이후 내용 없음 = 빈 내용
+        assertEquals(BASE, DescriptionDelta.apply("", DescriptionDelta.diffOrReplace(null, BASE)));
+        assertEquals("", DescriptionDelta.apply(BASE, DescriptionDelta.diffOrReplace(BASE, null)));
+        assertEquals("", DescriptionDelta.apply("", DescriptionDelta.diffOrReplace(null, null)));
+
+        assertNull(DescriptionDelta.diff(null, BASE));
+        assertNull(DescriptionDelta.diff(BASE, null));
+        assertNull(DescriptionDelta.apply(null, "d1:0:"));
+        assertNull(DescriptionDelta.apply(BASE, null));
+    }
+
+    @Test
+    void insertedTextStartingWithDigitsRoundTrips() {
+        // 삽입 명령 "+n:{텍스트}"에서 텍스트가 숫자로 시작해도 길이와 섞이지 않아야 함
+        assertRoundTrip(BASE, BASE.replace("3월 5일", "12345 3월 5일"));
+        assertRoundTrip("<p>마감</p>", "<p>2025 마감</p>");
+        assertRoundTrip("", "2025-03-01 회의");
+        assertRoundTrip("a", "42a");
+    }
+
+    @Test
+    void deletedAndInsertedDigitsRoundTrip() {
+        assertRoundTrip("<p>v1 버전 10개</p>", "<p>v2 버전 100개</p>");
+    }
+
+    @Test
+    void nonBmpCharactersRoundTrip() {
+        // 이모지/보충 평면 한자는 UTF-16 두 글자 (길이는 char 기준으로 일관되게 계산)
+        String before = "<p>확인 👍 완료 𠀀</p>";
+        assertRoundTrip(before, "<p>확인 👍👍 완료 😀 𠀀𠀁</p>");
+        assertRoundTrip(before, "<p>확인 완료</p>");
+        assertRoundTrip("😀", "😁");
+        assertRoundTrip("", "🎉🎉");
+    }
+
+    @Test
+    void largeRewriteFallsBackToFullReplace() {
+        // 편집 거리가 MAX_EDIT_DISTANCE(1000)를 넘는 변경
+        StringBuilder before = new StringBuilder();
+        StringBuilder after = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            before.append("a").append(i).append(' ');
+            after.append("b").append(i).append(' ');
+        }
+
+        assertNull(DescriptionDelta.diff(before.toString(), after.toString()));
+
+        String replace = DescriptionDelta.diffOrReplace(before.toString(), after.toString());
+        assertEquals("d1:" + before.length() + ":-" + before.length() + ";+" + after.length() + ":" + after,
+                replace);
+        assertEquals(after.toString(), DescriptionDelta.apply(before.toString(), replace));
+    }
+
+    @Test
+    void manyScatteredEditsOverTheLimitFallBack() {
+        // 변경분 자체는 짧아도 편집 거리(삭제+삽입 토큰 수)가 1000을 넘으면 diff 포기
+        String filler = " 변경 없는 긴 문단입니다 ".repeat(20);
+        StringBuilder before = new StringBuilder();
+        StringBuilder after = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            before.append('x').append(filler);
+            after.append('y').append(filler);
+        }
+
+        assertNull(DescriptionDelta.diff(before.toString(), after.toString()));
+        assertEquals(after.toString(),
+                DescriptionDelta.apply(before.toString(),
+                        DescriptionDelta.diffOrReplace(before.toString(), after.toString())));
+    }
+
+    @Test
+    void scatteredEditsUnderTheLimitStillDiff() {
+        String filler = " 변경 없는 긴 문단입니다 ".repeat(20);
+        StringBuilder before = new StringBuilder();
+        StringBuilder after = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            before.append('x').append(filler);
+            after.append('y').append(filler);
+        }
+
+        String delta = DescriptionDelta.diff(before.toString(), after.toString());
+
+        assertNotNull(delta);
+        assertEquals(after.toString(), DescriptionDelta.apply(before.toString(), delta));
+    }
+
+    @Test
+    void editsJustUnderTheLimitStillDiff() {
+        // 한 토큰만 바뀐 긴 내용 (앞뒤 공통 부분은 편집 거리에 포함되지 않음)
+        StringBuilder before = new StringBuilder();
+        for (int i = 0; i < 3000; i++) before.append("word").append(i).append(' ');
+        String after = before.toString().replace("word1500 ", "changed ");
+
+        String delta = DescriptionDelta.diff(before.toString(), after);
+
+        assertNotNull(delta);
+        assertEquals(after, DescriptionDelta.apply(before.toString(), delta));
+    }
+
+    @Test
+    void baseLengthMismatchReturnsNull() {
+        String after = BASE.replace("초안", "최종본");
+        String delta = DescriptionDelta.diffOrReplace(BASE, after);
+
+        assertNull(DescriptionDelta.apply(BASE + "x", delta));
+        assertNull(DescriptionDelta.apply(BASE.substring(1), delta));
+        assertNull(DescriptionDelta.apply("", delta));
+    }
+
+    @Test
+    void malformedDeltaReturnsNull() {
+        assertNull(DescriptionDelta.apply("abc", "x1:3:=3;"));  // 접두어 오류
+        assertNull(DescriptionDelta.apply("abc", "d1:3:=2"));   // 잘린 값
+        assertNull(DescriptionDelta.apply("abc", "d1:3:=4;"));  // 기준 내용보다 긴 복사
+        assertNull(DescriptionDelta.apply("abc", "d1:3:=1;"));  // 기준 내용을 다 소비하지 않음
+        assertNull(DescriptionDelta.apply("abc", "d1:3:?3;"));  // 알 수 없는 명령
+        assertNull(DescriptionDelta.apply("abc", "d1:3:+9:xy")); // 삽입 길이 초과
+    }
+
+    private static void assertRoundTrip(String before, String after) {
+        String delta = DescriptionDelta.diffOrReplace(before, after);
+        assertEquals(after, DescriptionDelta.apply(before, delta), before + " → " + after);
+
+        String small = DescriptionDelta.diff(before, after);
+        if (small != null) {
+            assertEquals(after, DescriptionDelta.apply(before, small), before + " → " + after + " (diff)");
+        }
+    }
+}
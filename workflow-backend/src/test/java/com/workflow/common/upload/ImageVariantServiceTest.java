@@ -0,0 +1,104 @@
+package com.workflow.common.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+
+// 로그인 없이 열리는 /images/** 경로 제한 확인 (에디터 module + 이미지 확장자만, 첨부 blob 차단)
+class ImageVariantServiceTest {
+
+    private static final String SHA256 = "12" + "ab".repeat(31);
+
+    @TempDir
+    Path dir;
+
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageVariantService(dir.toString(), 0.82f, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void attachmentBlobIsNotServed() throws Exception {
+        // 첨부 blob: {upload-dir}/blobs/{sha256 앞 2글자}/{sha256}
+        write("blobs/12/" + SHA256, "secret");
+
+        assertRejected(() -> service.resolve("blobs", 12L, SHA256, ImageVariant.THUMB));
+    }
+
+    @Test
+    void unknownModuleIsRejected() throws Exception {
+        write("profile/1/a.png", "x");
+
+        assertRejected(() -> service.resolve("profile", 1L, "a.png", ImageVariant.THUMB));
+    }
+
+    @Test
+    void nonImageFileInEditorModuleIsRejected() throws Exception {
+        write("tasks/1/report.pdf", "%PDF");
+        write("tasks/1/noext", "x");
+
+        assertRejected(() -> service.resolve("tasks", 1L, "report.pdf", ImageVariant.MEDIUM));
+        assertRejected(() -> service.resolve("tasks", 1L, "noext", ImageVariant.MEDIUM));
+    }
+
+    @Test
+    void missingImageIsNotFound() {
+        ApiException e = assertThrows(ApiException.class,
+                () -> service.resolve("tasks", 1L, "missing.png", ImageVariant.THUMB));
+
+        assertEquals(ErrorCode.NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    void gifIsServedAsOriginal() throws Exception {
+        Path gif = write("tasks/1/a.gif", "GIF89a");
+
+        assertEquals(gif, service.resolve("tasks", 1L, "a.gif", ImageVariant.THUMB));
+    }
+
+    @Test
+    void largePngIsResized() throws Exception {
+        Path png = dir.resolve("tasks/1/big.png");
+        Files.createDirectories(png.getParent());
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "png", png.toFile());
+
+        Path thumb = service.resolve("tasks", 1L, "big.png", ImageVariant.THUMB);
+
+        assertEquals(ImageVariant.THUMB.pathFor(png), thumb);
+        BufferedImage resized = ImageIO.read(thumb.toFile());
+        assertEquals(ImageVariant.THUMB.maxWidth(), resized.getWidth());
+        assertEquals(160, resized.getHeight());
+    }
+
+    private Path write(String relative, String content) throws Exception {
+        Path file = dir.resolve(relative);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    private static void assertRejected(Executable call) {
+        ApiException e = assertThrows(ApiException.class, call);
+        assertEquals(ErrorCode.BAD_REQUEST, e.getErrorCode());
+    }
+}
@@ -0,0 +1,279 @@
+package com.workflow.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// 다운로드 응답 상태/헤더/본문 확인 (전체 200, Range 206/416, If-Range, 조건부 304, HEAD)
+class FileDownloadUtilTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final String ETAG = "\"att-1-20\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L; // 초 단위로 떨어지는 시각 (HTTP 날짜 정밀도)
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.write(dir.resolve("report.txt"), CONTENT);
+    }
+
+    @Test
+    void fullDownloadWithoutRange() throws Exception {
+        MockHttpServletResponse res = download(get());
+
+        assertEquals(200, res.getStatus());
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+        assertEquals(CONTENT.length, res.getContentLengthLong());
+        assertEquals("bytes", res.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(ETAG, res.getHeader(HttpHeaders.ETAG));
+        assertNull(res.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void missingFileIs404() throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        FileDownloadUtil.write(get(), res, dir.resolve("missing.txt"), "missing.txt", "text/plain", ETAG, LAST_MODIFIED);
+
+        assertEquals(404, res.getStatus());
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    @Test
+    void singleRangeIs206() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 2-5/20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, res.getContentLengthLong());
+        assertArrayEquals(slice(2, 6), res.getContentAsByteArray());
+    }
+
+    @Test
+    void openEndedRangeRunsToEndOfFile() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=15-");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 15-19/20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(slice(15, 20), res.getContentAsByteArray());
+    }
+
+    @Test
+    void suffixRangeReturnsLastBytes() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=-4");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 16-19/20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(slice(16, 20), res.getContentAsByteArray());
+    }
+
+    @Test
+    void rangeEndPastFileIsClamped() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=10-999");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertEquals("bytes 10-19/20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(slice(10, 20), res.getContentAsByteArray());
+    }
+
+    @Test
+    void rangeStartingPastFileIs416() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(416, res.getStatus());
+        assertEquals("bytes */20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    @Test
+    void multipleRangesFallBackToFullBody() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertNull(res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void malformedRangeIsIgnored() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=abc");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithMatchingEtagHonorsRange() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        req.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertArrayEquals(slice(2, 6), res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithDifferentEtagSendsFullBody() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        req.addHeader(HttpHeaders.IF_RANGE, "\"att-1-old\"");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertNull(res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithWeakEtagSendsFullBody() throws Exception {
+        // If-Range는 강한 비교만 허용 → 같은 값이라도 약한 ETag면 불일치
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        req.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithMatchingDateHonorsRange() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        req.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertArrayEquals(slice(2, 6), res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifRangeWithOlderDateSendsFullBody() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        req.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED - 60_000));
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void ifNoneMatchWithCurrentEtagIs304() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(304, res.getStatus());
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    @Test
+    void ifModifiedSinceLastModifiedIs304() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.IF_MODIFIED_SINCE, httpDate(LAST_MODIFIED));
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(304, res.getStatus());
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    @Test
+    void ifNoneMatchWithOldEtagSendsBody() throws Exception {
+        MockHttpServletRequest req = get();
+        req.addHeader(HttpHeaders.IF_NONE_MATCH, "\"att-1-old\"");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(200, res.getStatus());
+        assertArrayEquals(CONTENT, res.getContentAsByteArray());
+    }
+
+    @Test
+    void headSendsHeadersWithoutBody() throws Exception {
+        MockHttpServletResponse res = download(new MockHttpServletRequest("HEAD", "/api/attachments/1/download"));
+
+        assertEquals(200, res.getStatus());
+        assertEquals(CONTENT.length, res.getContentLengthLong());
+        assertEquals(ETAG, res.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    @Test
+    void headWithRangeReportsPartialLength() throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("HEAD", "/api/attachments/1/download");
+        req.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse res = download(req);
+
+        assertEquals(206, res.getStatus());
+        assertEquals(4, res.getContentLengthLong());
+        assertEquals("bytes 2-5/20", res.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, res.getContentAsByteArray().length);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/attachments/1/download");
+    }
+
+    private MockHttpServletResponse download(MockHttpServletRequest req) throws Exception {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        FileDownloadUtil.write(req, res, file, "report.txt", "text/plain", ETAG, LAST_MODIFIED);
+        return res;
+    }
+
+    private static byte[] slice(int from, int to) {
+        return Arrays.copyOfRange(CONTENT, from, to);
+    }
+
+    private static String httpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC).format(Instant.ofEpochMilli(epochMillis));
+    }
+}
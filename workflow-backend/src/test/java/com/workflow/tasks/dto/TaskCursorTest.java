@@ -0,0 +1,99 @@
+package com.workflow.tasks.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.workflow.common.exception.ApiException;
+import com.workflow.common.exception.ErrorCode;
+import com.workflow.tasks.enums.TaskPriority;
+import com.workflow.tasks.enums.TaskSort;
+
+class TaskCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000);
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 31);
+
+    @Test
+    void encodeDecodeRoundTripForEverySort() {
+        for (TaskSort sort : TaskSort.values()) {
+            TaskCursor cursor = new TaskCursor(sort, TIME, DATE, 3, 42L);
+            assertEquals(cursor, TaskCursor.decode(cursor.encode()), sort.name());
+        }
+    }
+
+    @Test
+    void nullableKeysSurviveRoundTrip() {
+        // 마감일 없음 / 삭제일 없음 row 위치
+        TaskCursor due = new TaskCursor(TaskSort.DUE_DATE_ASC, null, null, null, 7L);
+        TaskCursor deleted = new TaskCursor(TaskSort.DELETED_AT_DESC, null, null, null, 8L);
+
+        TaskCursor decodedDue = TaskCursor.decode(due.encode());
+        assertNull(decodedDue.date());
+        assertEquals(7L, decodedDue.id());
+        assertEquals(deleted, TaskCursor.decode(deleted.encode()));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new TaskCursor(TaskSort.CREATED_AT_DESC, TIME, null, null, Long.MAX_VALUE).encode();
+        assertEquals(-1, indexOfAny(encoded, "+/="), encoded);
+    }
+
+    @Test
+    void ofUsesFavoriteCreatedAtOnFavoriteScope() {
+        LocalDateTime favoritedAt = TIME.plusDays(1);
+        TaskListResponse last = TaskListResponse.builder()
+                .id(5L)
+                .createdAt(TIME)
+                .favoriteCreatedAt(favoritedAt)
+                .priority(TaskPriority.HIGH)
+                .build();
+
+        assertEquals(favoritedAt, TaskCursor.of(TaskSort.CREATED_AT_DESC, true, last).time());
+        assertEquals(TIME, TaskCursor.of(TaskSort.CREATED_AT_DESC, false, last).time());
+
+        TaskCursor priority = TaskCursor.of(TaskSort.PRIORITY_DESC, false, last);
+        assertEquals(TaskPriority.HIGH.getRank(), priority.rank());
+        assertEquals(TIME, priority.time());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertBadRequest("not-base64!!");
+        assertBadRequest(raw("createdAtDesc|" + TIME + "||"));              // 필드 개수 부족
+        assertBadRequest(raw("createdAtDesc|" + TIME + "|||x"));            // id 형식 오류
+        assertBadRequest(raw("createdAtDesc|not-a-time|||1"));
+        assertBadRequest(raw("unknownSort|" + TIME + "|||1"));              // 알 수 없는 정렬 (기본값으로 바뀌면 안 됨)
+    }
+
+    @Test
+    void rejectsCursorMissingRequiredKeys() {
+        assertBadRequest(raw("createdAtDesc||||1"));                        // 등록일 필수
+        assertBadRequest(raw("priorityDesc|" + TIME + "|||1"));             // 중요도 순위 필수
+        assertBadRequest(raw("priorityAsc||||1"));
+    }
+
+    private static void assertBadRequest(String cursor) {
+        ApiException e = assertThrows(ApiException.class, () -> TaskCursor.decode(cursor), cursor);
+        assertEquals(ErrorCode.BAD_REQUEST, e.getErrorCode());
+    }
+
+    private static String raw(String s) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int indexOfAny(String s, String chars) {
+        for (int i = 0; i < s.length(); i++) {
+            if (chars.indexOf(s.charAt(i)) >= 0) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,149 @@
+package com.workflow.tasks.repasitory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+// keyset 조건의 NULL 정렬 규칙 확인 (DB 없이 조건식을 row 목록에 직접 적용)
+// PostgreSQL 기본 정렬: ASC면 NULL이 마지막, DESC면 NULL이 처음
+class TaskSpecificationsTest {
+
+    record Row(long id, Integer key) {}
+
+    private static final List<Row> ROWS = List.of(
+            new Row(1, null), new Row(2, 5), new Row(3, 3), new Row(4, null),
+            new Row(5, 3), new Row(6, 1), new Row(7, 5), new Row(8, null));
+
+    private final CriteriaBuilder cb = criteriaBuilder();
+    private final Expression<Integer> key = column(Row::key);
+    private final Expression<Long> id = column(Row::id);
+
+    @Test
+    void ascendingSeekReturnsEveryRowAfterCursorWithNullsLast() {
+        assertSeekMatchesOrder(true);
+    }
+
+    @Test
+    void descendingSeekReturnsEveryRowAfterCursorWithNullsFirst() {
+        assertSeekMatchesOrder(false);
+    }
+
+    // 정렬된 목록의 모든 위치를 커서로 삼아서, 조건에 걸리는 row가 정확히 그 뒤의 row들인지 확인
+    private void assertSeekMatchesOrder(boolean asc) {
+        List<Row> ordered = postgresOrder(asc);
+
+        for (int i = 0; i < ordered.size(); i++) {
+            Row cursor = ordered.get(i);
+            Predicate idAfter = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+            Predicate seek = TaskSpecifications.seekNullable(cb, key, cursor.key(), asc, idAfter);
+
+            List<Row> matched = ordered.stream().filter(r -> test(seek, r)).toList();
+            assertEquals(ordered.subList(i + 1, ordered.size()), matched, "cursor " + cursor);
+        }
+    }
+
+    private static List<Row> postgresOrder(boolean asc) {
+        Comparator<Row> byKey = Comparator.comparing(Row::key, Comparator.nullsLast(Comparator.<Integer>naturalOrder()));
+        Comparator<Row> order = byKey.thenComparingLong(Row::id);
+        List<Row> sorted = new ArrayList<>(ROWS);
+        sorted.sort(asc ? order : order.reversed());
+        return sorted;
+    }
+
+    // ---- 조건식을 row에 바로 평가하는 최소 CriteriaBuilder ----
+    // SQL의 NULL 비교(unknown)는 false로 취급: and/or만 쓰는 조건이라 결과가 같음
+
+    private interface RowTest extends InvocationHandler {
+        boolean test(Row row);
+
+        @Override
+        default Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "Predicate";
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+
+    private record Column(Function<Row, Object> getter) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "Column";
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Expression<T> column(Function<Row, T> getter) {
+        return (Expression<T>) Proxy.newProxyInstance(Expression.class.getClassLoader(),
+                new Class<?>[] {Expression.class}, new Column((Function<Row, Object>) getter));
+    }
+
+    private static Predicate predicate(RowTest test) {
+        return (Predicate) Proxy.newProxyInstance(Predicate.class.getClassLoader(),
+                new Class<?>[] {Predicate.class}, test);
+    }
+
+    private static boolean test(Object predicate, Row row) {
+        return ((RowTest) Proxy.getInvocationHandler(predicate)).test(row);
+    }
+
+    private static Object value(Object expression, Row row) {
+        return ((Column) Proxy.getInvocationHandler(expression)).getter().apply(row);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object expression, Object value, Row row) {
+        return ((Comparable) value(expression, row)).compareTo(value);
+    }
+
+    private static CriteriaBuilder criteriaBuilder() {
+        return (CriteriaBuilder) Proxy.newProxyInstance(CriteriaBuilder.class.getClassLoader(),
+                new Class<?>[] {CriteriaBuilder.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "isNull" -> predicate(r -> value(args[0], r) == null);
+                    case "isNotNull" -> predicate(r -> value(args[0], r) != null);
+                    case "equal" -> predicate(r -> value(args[0], r) != null && value(args[0], r).equals(args[1]));
+                    case "greaterThan" -> predicate(r -> value(args[0], r) != null && compare(args[0], args[1], r) > 0);
+                    case "lessThan" -> predicate(r -> value(args[0], r) != null && compare(args[0], args[1], r) < 0);
+                    case "and" -> {
+                        List<Object> parts = flatten(args);
+                        yield predicate(r -> parts.stream().allMatch(p -> test(p, r)));
+                    }
+                    case "or" -> {
+                        List<Object> parts = flatten(args);
+                        yield predicate(r -> parts.stream().anyMatch(p -> test(p, r)));
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Object> flatten(Object[] args) {
+        List<Object> out = new ArrayList<>();
+        for (Object arg : args) {
+            if (arg instanceof Object[] array) out.addAll(Arrays.asList(array));
+            else if (arg instanceof Collection<?> list) out.addAll(list);
+            else out.add(arg);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,169 @@
+package com.workflow.tasks.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflow.common.dto.CursorResponse;
+import com.workflow.department.entity.DepartmentEntity;
+import com.workflow.favorite.entity.FavoriteEntity;
+import com.workflow.tasks.dto.TaskListResponse;
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.enums.TaskPriority;
+import com.workflow.tasks.enums.TaskScope;
+import com.workflow.tasks.enums.TaskSort;
+import com.workflow.tasks.enums.TaskStatus;
+import com.workflow.tasks.enums.TaskVisibility;
+import com.workflow.user.entity.UserEntity;
+import com.workflow.user.enums.Role;
+import com.workflow.user.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+// 목록 조회 1회당 SQL 문 개수 상한 확인 (Hibernate statistics)
+// 모든 scope × sort 조합에서 row 수와 상관없이 고정 개수만 나가야 함 (row마다 lazy 조회가 붙으면 실패)
+// 테스트 데이터는 테스트마다 롤백
+// statistics는 전역 집계이므로 감사 로그 sweep 같은 백그라운드 조회가 끼어들지 않게 주기를 늘려 둠
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.audit-writer.sweep-delay-ms=3600000"
+})
+@Transactional
+class TaskListStatementCountTest {
+
+    private static final int PAGE_SIZE = 9;
+
+    // 목록 row 1 + 전체 개수 1 + 첨부 개수(살아있는/삭제 포함) 2 + 즐겨찾기 1 + 사용자 디렉터리(캐시 미스) 1
+    private static final long MAX_STATEMENTS_PER_LIST = 6;
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        String suffix = Long.toString(System.nanoTime());
+        DepartmentEntity myDept = department("stmt-dev-" + suffix, "SD" + suffix.substring(suffix.length() - 8));
+        DepartmentEntity otherDept = department("stmt-ops-" + suffix, "SO" + suffix.substring(suffix.length() - 8));
+        UserEntity me = user("stmt-me-" + suffix + "@test.local", myDept);
+        UserEntity other = user("stmt-other-" + suffix + "@test.local", otherDept);
+        userId = me.getId();
+
+        // 페이지 크기보다 많은 업무: 작성자/담당자/부서/공개 범위/중요도/마감일(null 포함)/삭제 여부를 섞어서
+        TaskPriority[] priorities = TaskPriority.values();
+        TaskVisibility[] visibilities = TaskVisibility.values();
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE * 3; i++) {
+            boolean mine = i % 2 == 0;
+            boolean deleted = i % 5 == 0;
+            TaskEntity task = TaskEntity.builder()
+                    .title("statement count " + i)
+                    .description("<p>본문 " + i + "</p>")
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(priorities[i % priorities.length])
+                    .visibility(visibilities[i % visibilities.length])
+                    .dueDate(i % 3 == 0 ? null : LocalDate.now().plusDays(i))
+                    .createdBy(mine ? me : other)
+                    .assignee(mine ? other : me)
+                    .ownerDepartment(mine ? myDept : otherDept)
+                    .workDepartment(i % 4 == 0 ? otherDept : myDept)
+                    .isDeleted(deleted)
+                    .deletedAt(deleted ? LocalDateTime.now().minusHours(i) : null)
+                    .build();
+            em.persist(task);
+            tasks.add(task);
+        }
+        for (int i = 0; i < tasks.size(); i += 2) {
+            em.persist(FavoriteEntity.builder().user(me).task(tasks.get(i)).build());
+        }
+
+        em.flush();
+        em.clear(); // 조회가 영속성 컨텍스트가 아니라 DB에서 이루어지도록
+    }
+
+    @Test
+    void offsetListUsesBoundedStatementsForEveryScopeAndSort() {
+        for (TaskScope scope : TaskScope.values()) {
+            for (TaskSort sort : TaskSort.values()) {
+                for (int page = 0; page < 2; page++) {
+                    String label = scope + "/" + sort + "/page " + page;
+                    int p = page;
+
+                    Page<TaskListResponse> result = count(label,
+                            () -> taskQueryService.list(scope.name(), null, userId, null, p, PAGE_SIZE, sort.getParam()));
+                    assertTrue(result.getNumberOfElements() <= PAGE_SIZE, label);
+                }
+            }
+        }
+    }
+
+    @Test
+    void cursorListUsesBoundedStatementsForEveryScopeAndSort() {
+        for (TaskScope scope : TaskScope.values()) {
+            for (TaskSort sort : TaskSort.values()) {
+                String cursor = null;
+                int page = 0;
+                do {
+                    String label = scope + "/" + sort + "/cursor page " + page;
+                    String current = cursor;
+
+                    CursorResponse<TaskListResponse> result = count(label,
+                            () -> taskQueryService.listByCursor(scope.name(), null, userId, null,
+                                    PAGE_SIZE, sort.getParam(), current));
+                    cursor = result.nextCursor();
+                    page++;
+                } while (cursor != null && page < 10);
+
+                assertFalse(cursor != null, scope + "/" + sort + ": cursor paging did not finish");
+            }
+        }
+    }
+
+    private <T> T count(String label, Supplier<T> call) {
+        statistics.clear();
+        T result = call.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= MAX_STATEMENTS_PER_LIST,
+                label + ": " + statements + " statements (max " + MAX_STATEMENTS_PER_LIST + ")");
+        em.clear();
+        return result;
+    }
+
+    private DepartmentEntity department(String name, String code) {
+        DepartmentEntity dept = DepartmentEntity.builder().name(name).code(code).build();
+        em.persist(dept);
+        return dept;
+    }
+
+    private UserEntity user(String email, DepartmentEntity dept) {
+        UserEntity user = new UserEntity(null, email, "{noop}test", email, dept, "사원",
+                Role.USER, UserStatus.OFFLINE, null, null, null);
+        em.persist(user);
+        return user;
+    }
+}
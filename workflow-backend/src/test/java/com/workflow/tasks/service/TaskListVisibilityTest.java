@@ -0,0 +1,164 @@
+package com.workflow.tasks.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workflow.common.dto.CursorResponse;
+import com.workflow.department.entity.DepartmentEntity;
+import com.workflow.tasks.dto.TaskListResponse;
+import com.workflow.tasks.entity.TaskEntity;
+import com.workflow.tasks.enums.TaskScope;
+import com.workflow.tasks.enums.TaskVisibility;
+import com.workflow.user.entity.UserEntity;
+import com.workflow.user.enums.Role;
+import com.workflow.user.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+
+// 목록 scope별로 어떤 업무가 보이는지 확인 (일반 사용자 / 팀장 / 관리자)
+// - 다른 사람의 PRIVATE 업무는 전체/우리 팀 탭에 나오지 않음
+// - 다른 부서의 DEPARTMENT 업무는 제외
+// - 삭제 탭: 일반 사용자는 내 업무만, 팀장은 자기 부서 업무까지, 관리자는 전부
+// DB에 다른 데이터가 있어도 되도록 이 테스트가 만든 업무만 비교, 테스트 데이터는 테스트마다 롤백
+@SpringBootTest(properties = "app.audit-writer.sweep-delay-ms=3600000")
+@Transactional
+class TaskListVisibilityTest {
+
+    private static final int PAGE_SIZE = 9;
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    @Autowired
+    private EntityManager em;
+
+    private final Map<String, Long> tasks = new LinkedHashMap<>(); // 테스트 업무 이름 → ID
+
+    private Long meId;        // 일반 사용자 (개발팀)
+    private Long managerId;   // 팀장 (개발팀)
+    private Long adminId;     // 관리자 (운영팀)
+
+    @BeforeEach
+    void setUp() {
+        String suffix = Long.toString(System.nanoTime());
+        String code = suffix.substring(suffix.length() - 8);
+        DepartmentEntity dev = department("vis-dev-" + suffix, "VD" + code);
+        DepartmentEntity ops = department("vis-ops-" + suffix, "VO" + code);
+
+        UserEntity me = user("vis-me-" + suffix + "@test.local", dev, Role.USER);
+        UserEntity colleague = user("vis-colleague-" + suffix + "@test.local", dev, Role.USER);
+        UserEntity manager = user("vis-manager-" + suffix + "@test.local", dev, Role.MANAGER);
+        UserEntity other = user("vis-other-" + suffix + "@test.local", ops, Role.USER);
+        UserEntity admin = user("vis-admin-" + suffix + "@test.local", ops, Role.ADMIN);
+        meId = me.getId();
+        managerId = manager.getId();
+        adminId = admin.getId();
+
+        task("publicOps", TaskVisibility.PUBLIC, other, null, ops, false);
+        task("deptDev", TaskVisibility.DEPARTMENT, colleague, null, dev, false);
+        task("deptOps", TaskVisibility.DEPARTMENT, other, null, ops, false);
+        task("privateColleague", TaskVisibility.PRIVATE, colleague, null, dev, false);
+        task("privateOther", TaskVisibility.PRIVATE, other, null, ops, false);
+        task("privateMine", TaskVisibility.PRIVATE, me, null, dev, false);
+        task("assignedToMeOps", TaskVisibility.DEPARTMENT, other, me, ops, false);
+        task("deletedMine", TaskVisibility.DEPARTMENT, me, null, ops, true);
+        task("deletedColleague", TaskVisibility.DEPARTMENT, colleague, null, dev, true);
+        task("deletedOther", TaskVisibility.DEPARTMENT, other, null, ops, true);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void userSeesOnlyPermittedTasksPerScope() {
+        assertScope(meId, TaskScope.ALL, "publicOps", "deptDev", "privateMine", "assignedToMeOps");
+        assertScope(meId, TaskScope.PUBLIC, "publicOps");
+        assertScope(meId, TaskScope.TEAM, "deptDev", "privateMine");
+        assertScope(meId, TaskScope.CREATED, "privateMine");
+        assertScope(meId, TaskScope.ASSIGNED, "assignedToMeOps");
+        assertScope(meId, TaskScope.PRIVATE, "privateMine");
+        assertScope(meId, TaskScope.DELETED, "deletedMine");
+    }
+
+    @Test
+    void managerSeesOwnDepartmentButNotOthersPrivateTasks() {
+        // 팀장도 같은 부서 다른 사람의 PRIVATE 업무는 볼 수 없음
+        assertScope(managerId, TaskScope.ALL, "publicOps", "deptDev");
+        assertScope(managerId, TaskScope.TEAM, "deptDev");
+        assertScope(managerId, TaskScope.PRIVATE);
+        // 삭제 탭은 자기 부서(업무 부서) 업무까지
+        assertScope(managerId, TaskScope.DELETED, "deletedColleague");
+    }
+
+    @Test
+    void adminBypassesVisibilityButKeepsScopeRange() {
+        assertScope(adminId, TaskScope.ALL,
+                "publicOps", "deptDev", "deptOps", "privateColleague", "privateOther", "privateMine", "assignedToMeOps");
+        assertScope(adminId, TaskScope.PUBLIC, "publicOps");
+        // 우리 팀 탭은 관리자 부서(운영팀) 업무로 한정, PRIVATE 포함
+        assertScope(adminId, TaskScope.TEAM, "publicOps", "deptOps", "privateOther", "assignedToMeOps");
+        assertScope(adminId, TaskScope.PRIVATE, "privateColleague", "privateOther", "privateMine");
+        assertScope(adminId, TaskScope.DELETED, "deletedMine", "deletedColleague", "deletedOther");
+    }
+
+    // scope 목록 전체(커서로 끝까지)에서 이 테스트가 만든 업무만 골라 비교
+    private void assertScope(Long userId, TaskScope scope, String... expected) {
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            CursorResponse<TaskListResponse> page = taskQueryService.listByCursor(
+                    scope.name(), null, userId, null, PAGE_SIZE, null, cursor);
+            page.content().forEach(t -> seen.add(t.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        Set<String> actual = tasks.entrySet().stream()
+                .filter(e -> seen.contains(e.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(expected), actual, scope + " (user " + userId + ")");
+    }
+
+    private void task(String name, TaskVisibility visibility, UserEntity createdBy, UserEntity assignee,
+                      DepartmentEntity workDept, boolean deleted) {
+        TaskEntity task = TaskEntity.builder()
+                .title("visibility " + name)
+                .description("<p>" + name + "</p>")
+                .visibility(visibility)
+                .createdBy(createdBy)
+                .assignee(assignee)
+                .ownerDepartment(createdBy.getDepartment())
+                .workDepartment(workDept)
+                .isDeleted(deleted)
+                .deletedAt(deleted ? LocalDateTime.now() : null)
+                .build();
+        em.persist(task);
+        tasks.put(name, task.getId());
+    }
+
+    private DepartmentEntity department(String name, String code) {
+        DepartmentEntity dept = DepartmentEntity.builder().name(name).code(code).build();
+        em.persist(dept);
+        return dept;
+    }
+
+    private UserEntity user(String email, DepartmentEntity dept, Role role) {
+        UserEntity user = new UserEntity(null, email, "{noop}test", email, dept, "사원",
+                role, UserStatus.OFFLINE, null, null, null);
+        em.persist(user);
+        return user;
+    }
+}
@@ -1,21 +1,27 @@
 import { api } from "./api";
 
 // 첨부파일 업로드 (taskId에 귀속)
-// - value에서 file.file 객체만 서버로 FormData 전송
+// - value에서 file.file 객체만 서버로 전송
+// - 파일마다 본문 그대로 스트리밍 업로드 (multipart 임시 파일 없이 서버가 바로 저장)
+// - 파일마다 별도 요청이라 중간 파일이 실패해도 앞 파일은 이미 저장됨 (전체 롤백 아님)
 export async function uploadTaskAttachments(taskId, value) {
-  const formData = new FormData();
-
-  // 새로 선택된 파일만 append
+  // 새로 선택된 파일만 업로드
   const newFiles = (value || []).filter(f => !f.isExisting);
-  newFiles.forEach(f => formData.append("files", f.file)); // 반드시 File 객체
 
   if (newFiles.length === 0) return []; // 새 파일 없으면 업로드 스킵
 
-  const res = await api.post(`/api/tasks/${taskId}/attachments`, formData, {
-    headers: { "Content-Type": "multipart/form-data" },
-  });
+  const uploaded = [];
+  for (const f of newFiles) {
+    const res = await api.post(`/api/tasks/${taskId}/attachments/stream`, f.file, { // 반드시 File 객체
+      headers: {
+        "Content-Type": f.file.type || "application/octet-stream",
+        "X-File-Name": encodeURIComponent(f.file.name),
+      },
+    });
+    uploaded.push(res.data);
+  }
 
-  return res.data; // 서버에서 AttachmentResponse 배열 반환
+  return uploaded; // 서버에서 받은 AttachmentResponse 배열
 }
 
 // 첨부 삭제(soft delete)
@@ -47,9 +53,20 @@ function parseFilenameFromContentDisposition(cd) {
 }
 
 // 첨부 다운로드 (원본명 강제 + 헤더 기반 보험)
-// - blob으로 받아서 a 태그를 사용해 다운로드 처리
+// - 원격 저장소(S3 등)면 서명 URL로 바로 이동 (파일명은 서명 URL 응답 헤더로 지정됨)
+// - 로컬 저장소면 blob으로 받아서 a 태그를 사용해 다운로드 처리
 // - 헤더에 filename 없으면 originalFilename 사용
 export async function downloadAttachment(attachmentId, originalFilename) {
+  const link = await api.get(`/api/attachments/${attachmentId}/download-url`);
+  if (link.data?.url) {
+    const a = document.createElement("a");
+    a.href = link.data.url;
+    document.body.appendChild(a);
+    a.click();
+    a.remove();
+    return;
+  }
+
   const res = await api.get(`/api/attachments/${attachmentId}/download`, {
     responseType: "blob", // 바이너리 데이터 수신
   });
@@ -0,0 +1,12 @@
+import { api } from "./api";
+
+// 업무 이력 조회 (커서 방식, 그룹 size개씩)
+// - cursor: 이전 응답의 nextCursor (첫 페이지는 빈 값)
+// - 응답: { content, size, nextCursor, hasNext }
+export async function fetchAuditLogPage(taskId, cursor = "", size = 10, config = {}) {
+  const res = await api.get(`/api/audit/${taskId}/audit-logs`, {
+    ...config,
+    params: { cursor: cursor ?? "", size },
+  });
+  return res.data;
+}
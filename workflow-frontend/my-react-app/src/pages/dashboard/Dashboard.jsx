@@ -2,6 +2,7 @@ import { useEffect, useState } from "react";
 import { useNavigate, useSearchParams } from "react-router-dom";
 import { useAuth } from "../../auth/hooks/useAuth";
 import { api } from "../../api/api";
+import { fetchAuditLogPage } from "../../api/auditApi";
 import "../../css/dashboard/Dashboard.css";
 import { ddayLabel } from "../../utils/dateUtils";
 
@@ -19,6 +20,7 @@ export default function Dashboard() {
   const [selectedTaskId, setSelectedTaskId] = useState(null);
   const [activityLog, setActivityLog] = useState([]);
   const [showAllLogs, setShowAllLogs] = useState(false);
+  const [activityCursor, setActivityCursor] = useState(null); // 다음 활동 로그 페이지 커서 (없으면 마지막)
 
   // 각 로그별 변경 필드 전체보기 상태
   const [showFullText, setShowFullText] = useState([]);
@@ -54,8 +56,11 @@ export default function Dashboard() {
 
       Promise.resolve().then(() => setSelectedTaskId(firstTaskId));
 
-      api.get(`/api/audit/${firstTaskId}/audit-logs`)
-        .then((res) => setActivityLog(res.data))
+      fetchAuditLogPage(firstTaskId, "", 5) // 최신 5개, 나머지는 더보기에서 이어서 조회
+        .then((page) => {
+          setActivityLog(page.content);
+          setActivityCursor(page.nextCursor);
+        })
         .catch((err) => console.error("Audit Log 불러오기 실패", err));
     }
   }, [myTasks]);
@@ -75,11 +80,31 @@ const handleKpiClick = (status) => {
   // 업무 클릭 시 선택 및 활동 로그 불러오기
   const handleTaskClick = (taskId) => {
     setSelectedTaskId(taskId);
-    api.get(`/api/audit/${taskId}/audit-logs`)
-      .then((res) => setActivityLog(res.data))
+    fetchAuditLogPage(taskId, "", 5)
+      .then((page) => {
+        setActivityLog(page.content);
+        setActivityCursor(page.nextCursor);
+      })
       .catch((err) => console.error("Audit Log 불러오기 실패", err));
   };
 
+  // 더보기: 불러온 로그 펼치기 → 다음 페이지 조회 → 마지막이면 접기
+  const handleActivityMore = () => {
+    if (showAllLogs && !activityCursor) {
+      setShowAllLogs(false);
+    } else if (!showAllLogs && activityLog.length > 5) {
+      setShowAllLogs(true);
+    } else {
+      fetchAuditLogPage(selectedTaskId, activityCursor, 20)
+        .then((page) => {
+          setActivityLog(prev => [...prev, ...page.content]);
+          setActivityCursor(page.nextCursor);
+          setShowAllLogs(true);
+        })
+        .catch((err) => console.error("Audit Log 불러오기 실패", err));
+    }
+  };
+
   const displayedLogs = showAllLogs ? activityLog : activityLog.slice(0, 5);
 
   // HTML 태그 제거
@@ -90,6 +115,10 @@ const handleKpiClick = (status) => {
     return div.textContent || div.innerText || "";
   }
 
+  // 탭 배지: 해당 범위의 상태별 개수 합계 (/api/kpi 카운터 값)
+  const tabTotal = (key) =>
+    Object.values(counts?.[key] ?? {}).reduce((sum, n) => sum + n, 0);
+
   // 긴 텍스트 줄이기 (trim)
   function trimText(text, length = 30) {
     if (!text) return "";
@@ -107,6 +136,7 @@ const handleKpiClick = (status) => {
           type="button"
         >
           내 업무
+          <span className="kpi__tab-count">{tabTotal("assigned")}</span>
         </button>
 
         <button
@@ -115,6 +145,7 @@ const handleKpiClick = (status) => {
           type="button"
         >
           내가 만든 업무
+          <span className="kpi__tab-count">{tabTotal("created")}</span>
         </button>
 
         <button
@@ -123,6 +154,7 @@ const handleKpiClick = (status) => {
           type="button"
         >
           즐겨찾기
+          <span className="kpi__tab-count">{tabTotal("favorite")}</span>
         </button>
       </div>
 
@@ -320,15 +352,15 @@ const handleKpiClick = (status) => {
             )}
 
             {/* 전체 로그 더보기 버튼 */}
-            {activityLog.length > 5 && (
+            {(activityLog.length > 5 || activityCursor) && (
               <div className="activity__logs__footer">
                 <button
-                  onClick={() => setShowAllLogs(prev => !prev)}
+                  onClick={handleActivityMore}
                   type="button"
                   className="btn-more"
                   style={{ marginTop: "12px" }}
                 >
-                  {showAllLogs ? "접기" : "더보기"}
+                  {showAllLogs && !activityCursor ? "접기" : "더보기"}
                 </button>
               </div>
             )}
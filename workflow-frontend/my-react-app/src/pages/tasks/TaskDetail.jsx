@@ -2,9 +2,11 @@ import "../../css/tasks/TaskDetail.css";
 import { useEffect, useState, useRef } from "react";
 import { useParams, useNavigate, NavLink } from "react-router-dom";
 import { api } from "../../api/api.js";
+import { fetchAuditLogPage } from "../../api/auditApi";
 
 import { visibilityLabel } from "../../utils/taskUtils";
 import { formatRelativeDateTime, ddayLabel } from "../../utils/dateUtils";
+import { toVariantImageHtml } from "../../utils/fileUtils";
 
 // 토큰 정보 가져오기
 import { userFromToken } from "../../auth/utils/userFromToken.js";
@@ -37,6 +39,7 @@ export default function TaskDetail() {
   const [auditLogs, setAuditLogs] = useState([]);
   const [showAllLogs, setShowAllLogs] = useState([]); // 카드별 더보기 상태
   const [showAllAuditLogs, setShowAllAuditLogs] = useState(false); // 전체 Audit Log 더보기 상태
+  const [auditCursor, setAuditCursor] = useState(null); // 다음 이력 페이지 커서 (없으면 마지막)
 
   const { accessToken } = useAuth();
   const loginUser = accessToken ? userFromToken(accessToken) : null;
@@ -56,7 +59,7 @@ export default function TaskDetail() {
       if (target && target.tagName === "IMG") {
         setImgModal({
           open: true,
-          src: target.getAttribute("src") || "",
+          src: target.getAttribute("data-original") || target.getAttribute("src") || "", // 축소본이면 원본으로
           alt: target.getAttribute("alt") || "",
         });
       }
@@ -78,10 +81,12 @@ export default function TaskDetail() {
         const res = await api.get(`/api/tasks/${id}`, { signal: controller.signal });
         setTask(res.data);
 
-        const logRes = await api.get(`/api/audit/${id}/audit-logs`, { signal: controller.signal });
-        setAuditLogs(logRes.data);
+        // 이력은 최신 3개만 먼저, 나머지는 더보기에서 이어서 조회
+        const logPage = await fetchAuditLogPage(id, "", 3, { signal: controller.signal });
+        setAuditLogs(logPage.content);
+        setAuditCursor(logPage.nextCursor);
 
-        setShowAllLogs(logRes.data.map(() => false));
+        setShowAllLogs(logPage.content.map(() => false));
       } catch (e) {
         if (e.name === "CanceledError" || e.code === "ERR_CANCELED") return;
 
@@ -171,6 +176,26 @@ export default function TaskDetail() {
 
   const visibleAuditLogs = showAllAuditLogs ? auditLogs : auditLogs.slice(0, 3);
 
+  // 이력 다음 페이지 불러오기
+  const loadMoreAuditLogs = async () => {
+    try {
+      const page = await fetchAuditLogPage(id, auditCursor, 10);
+      setAuditLogs(prev => [...prev, ...page.content]);
+      setShowAllLogs(prev => [...prev, ...page.content.map(() => false)]);
+      setAuditCursor(page.nextCursor);
+      setShowAllAuditLogs(true);
+    } catch (e) {
+      console.error("Audit Log 불러오기 실패", e);
+    }
+  };
+
+  // 더보기: 불러온 이력 펼치기 → 다음 페이지 조회 → 마지막이면 접기
+  const handleAuditLogsMore = () => {
+    if (showAllAuditLogs && !auditCursor) setShowAllAuditLogs(false);
+    else if (!showAllAuditLogs && auditLogs.length > 3) setShowAllAuditLogs(true);
+    else loadMoreAuditLogs();
+  };
+
 const departments = [
     { id: "Operations", name: "운영팀" },
     { id: "Development", name: "개발팀" },
@@ -193,14 +218,16 @@ const handleRestore = async (taskId) => {
     alert("복구 완료");
 
     // Task + Audit Log 재조회
-    const [taskRes, logRes] = await Promise.all([
+    const [taskRes, logPage] = await Promise.all([
       api.get(`/api/tasks/${taskId}`),
-      api.get(`/api/audit/${taskId}/audit-logs`)
+      fetchAuditLogPage(taskId, "", 3)
     ]);
 
     setTask(taskRes.data);
-    setAuditLogs(logRes.data);
-    setShowAllLogs(logRes.data.map(() => false));
+    setAuditLogs(logPage.content);
+    setAuditCursor(logPage.nextCursor);
+    setShowAllAuditLogs(false);
+    setShowAllLogs(logPage.content.map(() => false));
   } catch (e) {
     console.error(e);
     alert("복구 실패");
@@ -305,7 +332,7 @@ const toggleFavorite = async (taskId) => {
       <div className="taskdetail__grid">
         <div className="taskdetail__card">
           {task.description ? (
-            <div ref={descRef} className="taskdetail__desc" dangerouslySetInnerHTML={{ __html: task.description }} />
+            <div ref={descRef} className="taskdetail__desc" dangerouslySetInnerHTML={{ __html: toVariantImageHtml(task.description) }} />
           ) : (
             <div className="taskdetail__empty">설명이 없습니다.</div>
           )}
@@ -457,12 +484,12 @@ const toggleFavorite = async (taskId) => {
           ))}
 
           {/* 전체 Audit Log 더보기 버튼 */}
-          {auditLogs.length > 3 && (
+          {(auditLogs.length > 3 || auditCursor) && (
             <button
               className="taskdetail__btn taskdetail__btn--ghost"
-              onClick={() => setShowAllAuditLogs(!showAllAuditLogs)}
+              onClick={handleAuditLogsMore}
             >
-              {showAllAuditLogs ? "접기" : "더보기"}
+              {showAllAuditLogs && !auditCursor ? "접기" : "더보기"}
             </button>
           )}
         </div>
@@ -159,16 +159,6 @@ const [sort, setSort] = useState(initialSort);
     return pages;
   };
 
-  // HTML → text
-  const stripHtml = (html = "") => {
-    const doc = new DOMParser().parseFromString(html, "text/html");
-    return (doc.body.textContent || "").trim();
-  };
-
-  // HTML 내 이미지/영상 체크
-  const hasImageInHtml = (html = "") => /<img\b/i.test(html);
-  const hasVideoInHtml = (html = "") => /<iframe\b/i.test(html);
-
   // 서버 응답 정규화
   const normalizePageResponse = (data) => {
     if (data && Array.isArray(data.content)) {
@@ -243,9 +233,9 @@ useEffect(() => {
       return ct.startsWith("video/") || /\.(mp4|mov|webm|mkv|avi)$/i.test(name);
     });
 
-    const rawHtml = t?.description || "";
-    const hasImgInDesc = hasImageInHtml(rawHtml);
-    const hasVideoInDesc = hasVideoInHtml(rawHtml);
+    // 목록 응답에는 본문 HTML 대신 서버에서 판단한 포함 여부만 내려옴
+    const hasImgInDesc = !!t?.hasImageInDescription;
+    const hasVideoInDesc = !!t?.hasVideoInDescription;
 
     return {
       count,
@@ -433,7 +423,7 @@ return (
 
     <ul className="tasks__grid">
       {tasks.map((t) => {
-        const descText = stripHtml(t.description || "");
+        const descText = t.descriptionExcerpt || "";
         const descForRender = descText || "\u00A0";
         const att = getAttachSummary(t);
 
@@ -96,3 +96,16 @@ export const validateAttachments = (files, opts = {}) => {
 
   return { ok: true, files: arr };
 };
+
+// 업무 본문 이미지 → 축소본 URL로 치환 (상세 화면 표시용)
+// /uploads/tasks/{taskId}/{파일명} → /images/tasks/{taskId}/medium/{파일명}
+// 원본 주소는 data-original에 보관 (클릭 시 원본 모달)
+export const toVariantImageHtml = (html, variant = "medium") => {
+  if (!html) return html;
+  return html.replace(
+    /(<img\b[^>]*?\bsrc=")([^"]*?)\/uploads\/(tasks)\/(\d+)\/([A-Za-z0-9._-]+)"/g,
+    (_, head, host, module, ownerId, fileName) =>
+      `${head}${host}/images/${module}/${ownerId}/${variant}/${fileName}" ` +
+      `data-original="${host}/uploads/${module}/${ownerId}/${fileName}" loading="lazy"`
+  );
+};
@@ -9,6 +9,7 @@ SELECT * FROM users;
 SELECT * FROM tasks ORDER by id ASC;
 SELECT * FROM comments;
 SELECT * FROM attachments ORDER by id ASC;
+SELECT * FROM attachment_blobs;
 SELECT * FROM audit_logs;
 SELECT * FROM refresh_tokens;
 SELECT * FROM favorites;
@@ -18,7 +19,9 @@ SELECT * FROM notifications;
 DROP TABLE notifications CASCADE;
 DROP TABLE favorites CASCADE;
 DROP TABLE refresh_tokens CASCADE;
+DROP TABLE audit_outbox CASCADE;
 DROP TABLE audit_logs CASCADE;
+DROP TABLE attachment_blobs CASCADE;
 DROP TABLE attachments CASCADE;
 DROP TABLE comments CASCADE;
 DROP TABLE tasks CASCADE;
@@ -55,8 +58,12 @@ CREATE TABLE tasks (
 	id BIGSERIAL PRIMARY KEY,
 	title VARCHAR(200) NOT NULL,
 	description TEXT NULL,
+	has_image BOOLEAN NULL, -- 본문 이미지 포함 여부 (목록 표시용, 저장 시 계산)
+	has_video BOOLEAN NULL, -- 본문 영상(iframe) 포함 여부
+	description_excerpt VARCHAR(200) NULL, -- 본문 미리보기 평문 (목록 표시용, 저장 시 계산)
 	status VARCHAR(20) NOT NULL,
 	priority VARCHAR(20) NOT NULL,
+	priority_rank INTEGER NOT NULL DEFAULT 2, -- 중요도 정렬용 (HIGH 3, MEDIUM 2, LOW 1)
 	visibility VARCHAR(20) NOT NULL DEFAULT 'DEPARTMENT',
 	due_date DATE NULL,
 	is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
@@ -65,6 +72,7 @@ CREATE TABLE tasks (
 	assignee_id BIGINT NULL,
   	owner_department_id BIGINT NOT NULL, -- 작성자 부서
   	work_department_id BIGINT NOT NULL, -- 처리/ 담당 부서
+	description_revision INTEGER NOT NULL DEFAULT 0, -- 내용 변경 횟수 (감사 로그 전체 내용 저장 주기 판단용)
 	version BIGINT NOT NULL DEFAULT 0, -- 낙관적 락 컬럼 추가
 	created_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
 	updated_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
@@ -94,6 +102,9 @@ CREATE INDEX idx_tasks_work_dept ON tasks(work_department_id);
 CREATE INDEX idx_tasks_status ON tasks(status);
 CREATE INDEX idx_tasks_due_date ON tasks(due_date);
 CREATE INDEX idx_tasks_visibility ON tasks(visibility);
+CREATE INDEX idx_tasks_deleted_created ON tasks(is_deleted, created_at, id);
+CREATE INDEX idx_tasks_work_dept_deleted_created ON tasks(work_department_id, is_deleted, created_at);
+CREATE INDEX idx_tasks_deleted_priority_created ON tasks(is_deleted, priority_rank, created_at, id);
 
 CREATE TABLE comments(
     id BIGSERIAL PRIMARY KEY,
@@ -118,6 +129,7 @@ CREATE TABLE attachments(
     content_type VARCHAR(100) NULL,
     size_bytes BIGINT NOT NULL,
     storage_path VARCHAR(500) NOT NULL,
+    content_sha256 VARCHAR(64) NULL,
     is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
     deleted_at timestamp(6) without time zone NULL,
     created_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
@@ -125,21 +137,44 @@ CREATE TABLE attachments(
     FOREIGN KEY (uploader_id) REFERENCES users(id)
 );
 
+-- 첨부파일 blob (내용 SHA-256 기준 1벌 저장, attachments.content_sha256이 참조)
+CREATE TABLE attachment_blobs(
+    sha256 VARCHAR(64) PRIMARY KEY,
+    storage_path VARCHAR(500) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at timestamp(6) without time zone NOT NULL DEFAULT NOW()
+);
+
 CREATE TABLE audit_logs(
     id BIGSERIAL PRIMARY KEY,
     task_id BIGINT NULL,
     actor_id BIGINT NOT NULL,
+    actor_name VARCHAR(100) NULL, -- 변경 시점 수정자 이름 (조회 시 users 조인 없이 표시)
     action_type VARCHAR(30) NOT NULL,
     field_name VARCHAR(50) NULL,
     before_value TEXT NULL,
     after_value TEXT NULL,
+    value_format VARCHAR(20) NULL, -- NULL: 값 그대로, DIFF: 내용 변경분, DESCRIPTION_REF: 요약에 내용 생략
+    before_text TEXT NULL, -- 화면 표시용 텍스트 (저장 시 HTML 태그 제거, DIFF row의 after_text는 텍스트 변경분)
+    after_text TEXT NULL,
+    text_ready BOOLEAN NOT NULL DEFAULT FALSE, -- before_text/after_text 저장 여부 (이전 row는 조회 시 HTML 파싱)
     reason TEXT NULL,
     created_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
     FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE SET NULL,
     FOREIGN KEY (actor_id) REFERENCES users(id)
 );
 
-CREATE INDEX idx_audit_task_id ON audit_logs(task_id);
+-- 업무별 이력 최신순 조회 + (created_at, id) 커서 페이징용 (task_id 단독 조회도 이 인덱스로 처리)
+CREATE INDEX idx_audit_task_created ON audit_logs(task_id, created_at DESC, id DESC);
+
+-- 감사 로그 outbox (업무 트랜잭션과 같이 커밋, AuditLogWriter가 audit_logs로 옮긴 뒤 삭제)
+CREATE TABLE audit_outbox(
+    id BIGSERIAL PRIMARY KEY,
+    payload TEXT NOT NULL,
+    created_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
+    poisoned_at timestamp(6) without time zone NULL
+);
 
 CREATE TABLE refresh_tokens(
     id BIGSERIAL PRIMARY KEY,
@@ -147,10 +182,15 @@ CREATE TABLE refresh_tokens(
     token_hash VARCHAR(255) NOT NULL UNIQUE,
     expires_at timestamp(6) without time zone NOT NULL,
     revoked_at timestamp(6) without time zone NULL,
+    family_id VARCHAR(36) NULL,
+    rotated_at timestamp(6) without time zone NULL,
+    replaced_by_hash VARCHAR(64) NULL,
     created_at timestamp(6) without time zone NOT NULL DEFAULT NOW(),
     FOREIGN KEY (user_id) REFERENCES users (id)
 );
 
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family_id);
+
 CREATE TABLE favorites (
     id BIGSERIAL PRIMARY KEY,
     user_id BIGINT NOT NULL,
@@ -163,6 +203,24 @@ CREATE TABLE favorites (
 
 CREATE INDEX idx_favorites_user_id ON favorites(user_id);
 CREATE INDEX idx_favorites_task_id ON favorites(task_id);
+CREATE INDEX idx_favorites_user_created ON favorites(user_id, created_at);
+
+-- 사용자별 상태별 업무 개수 (KPI용, 삭제되지 않은 업무 기준)
+-- counter_type: ASSIGNED(담당)/CREATED(작성)/FAVORITE(즐겨찾기), owner_id = 사용자
+CREATE TABLE task_counters (
+    id BIGSERIAL PRIMARY KEY,
+    counter_type VARCHAR(20) NOT NULL,
+    owner_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_task_counters_key UNIQUE (counter_type, owner_id, status)
+);
+
+-- task_counters 재계산 상태 (row 1개, 기동 시 최초 재계산 여부 판단)
+CREATE TABLE task_counter_state (
+    id SMALLINT PRIMARY KEY,
+    rebuilt_at timestamp(6) without time zone NOT NULL
+);
 
 CREATE TABLE notifications (
     id BIGSERIAL PRIMARY KEY,